@@ -1,5 +1,6 @@
 package com.tebutebu.apiserver.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tebutebu.apiserver.dto.ai.comment.request.AiCommentCreateRequestDTO;
 import com.tebutebu.apiserver.dto.comment.request.CommentCreateRequestDTO;
 import com.tebutebu.apiserver.dto.comment.response.CommentResponseDTO;
@@ -13,6 +14,7 @@ import com.tebutebu.apiserver.pagination.dto.request.CursorTimePageRequestDTO;
 import com.tebutebu.apiserver.pagination.dto.response.CursorPageResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.CursorMetaDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.TimeCursorMetaDTO;
+import com.tebutebu.apiserver.global.stream.NdjsonWriter;
 import com.tebutebu.apiserver.service.comment.CommentService;
 import com.tebutebu.apiserver.service.member.MemberService;
 import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotService;
@@ -28,8 +30,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -51,6 +55,8 @@ public class ProjectController {
 
     private final SubscriptionService subscriptionService;
 
+    private final ObjectMapper objectMapper;
+
     @GetMapping("/{projectId}")
     public ResponseEntity<?> get(
             @PathVariable long projectId,
@@ -73,6 +79,14 @@ public class ProjectController {
         ));
     }
 
+    @GetMapping(value = "/github-urls", params = "format=ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGithubUrls() {
+        StreamingResponseBody body = NdjsonWriter.body(objectMapper, projectService::exportGithubUrls);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("/snapshot")
     public ResponseEntity<?> registerSnapshot() {
         Long snapshotId = projectRankingSnapshotService.register();
@@ -91,6 +105,7 @@ public class ProjectController {
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
             @RequestParam(name = "context-id") @NotNull Long contextId,
             @RequestParam(name = "cursor-id", defaultValue = "0") @PositiveOrZero Long cursorId,
+            @RequestParam(name = "cursor-offset", required = false) @PositiveOrZero Integer cursorOffset,
             @RequestParam(name = "page-size", defaultValue = "10") @Positive @Min(1) @Max(100) Integer pageSize
     ) {
         Long memberId = (authorizationHeader != null) ? memberService.get(authorizationHeader).getId() : null;
@@ -98,6 +113,7 @@ public class ProjectController {
         ContextCursorPageRequestDTO dto = ContextCursorPageRequestDTO.builder()
                 .contextId(contextId)
                 .cursorId(cursorId)
+                .cursorOffset(cursorOffset)
                 .pageSize(pageSize)
                 .memberId(memberId)
                 .build();
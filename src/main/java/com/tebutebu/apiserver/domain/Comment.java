@@ -10,6 +10,10 @@ import lombok.Getter;
 import lombok.ToString;
 
 @Entity
+@Table(
+        name = "comment",
+        indexes = @Index(name = "idx_comment_project_created_at_id", columnList = "project_id, created_at, id")
+)
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -58,6 +58,10 @@ public class Project extends TimeStampedEntity {
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProjectTag> projectTags = new ArrayList<>();
 
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, columnDefinition = "INT UNSIGNED DEFAULT 0")
+    private Long commentCount = 0L;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "tags", columnDefinition = "json")
     private List<TagResponseDTO> tagContents;
@@ -0,0 +1,52 @@
+package com.tebutebu.apiserver.domain;
+
+import com.tebutebu.apiserver.domain.common.TimeStampedEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "project_ranking_daily_snapshot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_project_ranking_daily_snapshot_date",
+                columnNames = "snapshot_date"
+        )
+)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@ToString(exclude = {"rankingBlob"})
+public class ProjectRankingDailySnapshot extends TimeStampedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(columnDefinition = "INT UNSIGNED")
+    private Long id;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "source_snapshot_id", nullable = false)
+    private Long sourceSnapshotId;
+
+    @Column(name = "source_requested_at", nullable = false)
+    private LocalDateTime sourceRequestedAt;
+
+    @Column(name = "ranking_blob", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] rankingBlob;
+
+}
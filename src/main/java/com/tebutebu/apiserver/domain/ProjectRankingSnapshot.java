@@ -11,11 +11,15 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        name = "project_ranking_snapshot",
+        indexes = @Index(name = "idx_project_ranking_snapshot_requested_at", columnList = "requested_at")
+)
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
-@ToString
+@ToString(exclude = {"rankingData", "rankingBlob"})
 public class ProjectRankingSnapshot extends TimeStampedEntity {
 
     @Id
@@ -26,6 +30,9 @@ public class ProjectRankingSnapshot extends TimeStampedEntity {
     @Column(name="ranking_data", columnDefinition="JSON")
     private String rankingData;
 
+    @Column(name="ranking_blob", columnDefinition="MEDIUMBLOB")
+    private byte[] rankingBlob;
+
     private LocalDateTime requestedAt;
 
 }
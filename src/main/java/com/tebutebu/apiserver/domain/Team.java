@@ -68,37 +68,10 @@ public class Team extends TimeStampedEntity {
     @Column(nullable = false)
     private boolean isAiBadgeInProgress = false;
 
-    public void increaseGivedPumati() {
-        this.givedPumatiCount++;
-    }
-
-    public void increaseGivedPumatiBy(long amount) {
-        if (amount < 0) {
-            throw new IllegalArgumentException("amount must be non-negative");
-        }
-        this.givedPumatiCount += amount;
-    }
-
-    public void increaseReceivedPumati() {
-        this.receivedPumatiCount++;
-    }
-
-    public void increaseReceivedPumatiBy(long amount) {
-        if (amount < 0) {
-            throw new IllegalArgumentException("amount must be non-negative");
-        }
-        this.receivedPumatiCount += amount;
-    }
-
     public void changeBadgeImageUrl(String badgeImageUrl) {
         this.badgeImageUrl = badgeImageUrl;
     }
 
-    public void resetPumatiCounts() {
-        this.givedPumatiCount = 0L;
-        this.receivedPumatiCount = 0L;
-    }
-
     public void setAiBadgeInProgress(boolean isAiBadgeInProgress) {
         this.isAiBadgeInProgress = isAiBadgeInProgress;
     }
@@ -0,0 +1,18 @@
+package com.tebutebu.apiserver.dto.project.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SubscribedProjectPageRowDTO {
+
+    private Long subscriptionId;
+
+    private LocalDateTime subscriptionModifiedAt;
+
+    private ProjectPageRowDTO project;
+
+}
@@ -0,0 +1,18 @@
+package com.tebutebu.apiserver.dto.project.snapshot.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectRankingRowDTO {
+
+    private Long projectId;
+
+    private Long teamId;
+
+    private Long givedPumatiCount;
+
+    private Long receivedPumatiCount;
+
+}
@@ -0,0 +1,16 @@
+package com.tebutebu.apiserver.dto.project.snapshot.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ProjectRankingSnapshotTimeDTO {
+
+    private Long id;
+
+    private LocalDateTime requestedAt;
+
+}
@@ -83,6 +83,7 @@ public class ValidationMessages {
     public static final String PAGE_SIZE_MAX = "pageSizeMax";
     public static final String CURSOR_ID_MUST_BE_POSITIVE = "cursorIdMustBePositive";
     public static final String CURSOR_COUNT_MUST_BE_POSITIVE_OR_ZERO = "cursorCountMustBePositiveOrZero";
+    public static final String CURSOR_OFFSET_MUST_BE_POSITIVE_OR_ZERO = "cursorOffsetMustBePositiveOrZero";
     public static final String CONTEXT_ID_MUST_BE_POSITIVE = "contextIdMustBePositive";
     public static final String CURSOR_TIME_PAST_OR_PRESENT = "cursorTimeMustBePastOrPresent";
 
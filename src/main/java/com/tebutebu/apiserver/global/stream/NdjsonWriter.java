@@ -0,0 +1,62 @@
+package com.tebutebu.apiserver.global.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 한 줄에 JSON 객체 하나씩 응답에 바로 써서 전체 결과를 메모리에 모으지 않는다.
+ */
+public class NdjsonWriter {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectWriter writer;
+
+    private final OutputStream out;
+
+    private int pending;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.out = out;
+    }
+
+    public static <T> StreamingResponseBody body(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return out -> {
+            NdjsonWriter ndjsonWriter = new NdjsonWriter(objectMapper, out);
+            try {
+                source.accept(ndjsonWriter::write);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            ndjsonWriter.flush();
+        };
+    }
+
+    public void write(Object value) {
+        try {
+            writer.writeValue(out, value);
+            out.write(NEW_LINE);
+            if (++pending >= FLUSH_INTERVAL) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+        pending = 0;
+    }
+
+}
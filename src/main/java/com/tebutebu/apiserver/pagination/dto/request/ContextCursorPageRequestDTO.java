@@ -2,6 +2,7 @@ package com.tebutebu.apiserver.pagination.dto.request;
 
 import com.tebutebu.apiserver.global.constant.ValidationMessages;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,9 @@ public class ContextCursorPageRequestDTO extends CursorPageRequestDTO {
     @Positive(message = ValidationMessages.CONTEXT_ID_MUST_BE_POSITIVE)
     private Long contextId;
 
+    @PositiveOrZero(message = ValidationMessages.CURSOR_OFFSET_MUST_BE_POSITIVE_OR_ZERO)
+    private Integer cursorOffset;
+
     private Long memberId;
 
 }
@@ -0,0 +1,12 @@
+package com.tebutebu.apiserver.pagination.dto.response.meta;
+
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@SuperBuilder
+public class RankCursorMetaDTO extends CursorMetaDTO {
+
+    private final Integer nextCursorOffset;
+
+}
@@ -1,15 +1,18 @@
 package com.tebutebu.apiserver.pagination.factory;
 
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
@@ -18,23 +21,43 @@ public class CursorPageFactory {
     private final JPAQueryFactory queryFactory;
 
     public <E> CursorPage<E> create(CursorPageSpec<E> spec) {
+        Objects.requireNonNull(spec.getTimeExtractor(), "timeExtractor is required for time cursor pages");
         applyTimeCursorCondition(spec);
-        return buildPage(spec, "getCreatedAt", null);
+        return toPage(fetch(spec), spec, spec.getTimeExtractor(), null);
     }
 
     public <E> CursorPage<E> createForCount(CursorPageSpec<E> spec) {
+        Objects.requireNonNull(spec.getCountExtractor(), "countExtractor is required for count cursor pages");
         applyCountCursorCondition(spec);
-        return buildPage(spec, null, "getAcquiredCount");
+        return toPage(fetch(spec), spec, null, spec.getCountExtractor());
     }
 
-    private <E> CursorPage<E> buildPage(CursorPageSpec<E> spec, String timeMethodName, String countMethodName) {
-        List<E> fetched = queryFactory
-                .select(spec.getEntityPath())
-                .from(spec.getEntityPath())
+    @SuppressWarnings("unchecked")
+    private <E> List<E> fetch(CursorPageSpec<E> spec) {
+        boolean projected = spec.getProjection() != null;
+        Expression<E> select = projected ? spec.getProjection() : (Expression<E>) spec.getEntityPath();
+
+        JPAQuery<E> query = queryFactory
+                .select(select)
+                .from(spec.getEntityPath());
+        if (spec.getFetchJoins() != null) {
+            // 프로젝션은 엔티티를 영속화하지 않으므로 fetch 없이 조인만 건다.
+            spec.getFetchJoins().forEach(join -> join.applyTo(query, !projected));
+        }
+        return query
                 .where(spec.getWhere())
                 .orderBy(spec.getOrderBy())
                 .limit(spec.getPageSize() + 1)
                 .fetch();
+    }
+
+    static <E> CursorPage<E> toPage(
+            List<E> fetched,
+            CursorPageSpec<E> spec,
+            Function<E, LocalDateTime> timeExtractor,
+            Function<E, Integer> countExtractor
+    ) {
+        Objects.requireNonNull(spec.getIdExtractor(), "idExtractor is required");
 
         boolean hasNext = fetched.size() > spec.getPageSize();
         List<E> pageItems = hasNext ? fetched.subList(0, spec.getPageSize()) : fetched;
@@ -45,22 +68,12 @@ public class CursorPageFactory {
 
         if (!pageItems.isEmpty()) {
             E last = pageItems.getLast();
-            try {
-                Method getId = last.getClass().getMethod("getId");
-                nextCursorId = (Long) getId.invoke(last);
-
-                if (timeMethodName != null) {
-                    Method getTime = last.getClass().getMethod(timeMethodName);
-                    nextCursorTime = (LocalDateTime) getTime.invoke(last);
-                }
-
-                if (countMethodName != null) {
-                    Method getCount = last.getClass().getMethod(countMethodName);
-                    nextCursorCount = (Integer) getCount.invoke(last);
-                }
-
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+            nextCursorId = spec.getIdExtractor().apply(last);
+            if (timeExtractor != null) {
+                nextCursorTime = timeExtractor.apply(last);
+            }
+            if (countExtractor != null) {
+                nextCursorCount = countExtractor.apply(last);
             }
         }
 
@@ -1,6 +1,7 @@
 package com.tebutebu.apiserver.pagination.factory;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.EntityPathBase;
@@ -10,13 +11,21 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
 
 @Getter
 @Builder
 @AllArgsConstructor
 public class CursorPageSpec<E> {
 
-    private EntityPathBase<E> entityPath;
+    private EntityPathBase<?> entityPath;
+
+    // 지정하면 엔티티 대신 이 표현식으로 필요한 컬럼만 조회한다.
+    private Expression<E> projection;
+
+    @Builder.Default
+    private List<FetchJoin<?>> fetchJoins = List.of();
 
     private BooleanBuilder where;
 
@@ -28,6 +37,12 @@ public class CursorPageSpec<E> {
 
     private NumberExpression<Integer> countExpr;
 
+    private Function<E, Long> idExtractor;
+
+    private Function<E, LocalDateTime> timeExtractor;
+
+    private Function<E, Integer> countExtractor;
+
     private Long cursorId;
 
     private LocalDateTime cursorTime;
@@ -0,0 +1,33 @@
+package com.tebutebu.apiserver.pagination.factory;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Path;
+import com.querydsl.jpa.impl.JPAQuery;
+
+/**
+ * 커서 페이지 조회 시 함께 가져올 연관 엔티티.
+ * 하위 연관을 이어서 가져오려면 alias 를 지정하고 다음 조인에서 그 alias 를 기준으로 삼는다.
+ * 프로젝션 조회에서는 fetch 없이 일반 조인으로 적용된다.
+ */
+public record FetchJoin<P>(EntityPath<P> target, Path<P> alias) {
+
+    public static <P> FetchJoin<P> of(EntityPath<P> target) {
+        return new FetchJoin<>(target, null);
+    }
+
+    public static <P> FetchJoin<P> of(EntityPath<P> target, Path<P> alias) {
+        return new FetchJoin<>(target, alias);
+    }
+
+    void applyTo(JPAQuery<?> query, boolean fetch) {
+        if (alias == null) {
+            query.leftJoin(target);
+        } else {
+            query.leftJoin(target, alias);
+        }
+        if (fetch) {
+            query.fetchJoin();
+        }
+    }
+
+}
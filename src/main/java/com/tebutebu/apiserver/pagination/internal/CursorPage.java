@@ -11,5 +11,6 @@ public record CursorPage<E>(
         Long nextCursorId,
         LocalDateTime nextCursorTime,
         Integer nextCursorCount,
+        Integer nextCursorOffset,
         boolean hasNext
 ) {}
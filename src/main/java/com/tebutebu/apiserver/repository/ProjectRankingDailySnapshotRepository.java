@@ -0,0 +1,15 @@
+package com.tebutebu.apiserver.repository;
+
+import com.tebutebu.apiserver.domain.ProjectRankingDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProjectRankingDailySnapshotRepository extends JpaRepository<ProjectRankingDailySnapshot, Long> {
+
+    boolean existsBySnapshotDate(LocalDate snapshotDate);
+
+    List<ProjectRankingDailySnapshot> findAllBySnapshotDateBetween(LocalDate start, LocalDate end);
+
+}
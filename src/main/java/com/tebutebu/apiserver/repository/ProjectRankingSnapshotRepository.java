@@ -1,7 +1,11 @@
 package com.tebutebu.apiserver.repository;
 
 import com.tebutebu.apiserver.domain.ProjectRankingSnapshot;
+import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotTimeDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -15,6 +19,20 @@ public interface ProjectRankingSnapshotRepository extends JpaRepository<ProjectR
 
     Optional<ProjectRankingSnapshot> findTopByOrderByRequestedAtDesc();
 
+    @Query("SELECT MAX(s.requestedAt) FROM ProjectRankingSnapshot s")
+    Optional<LocalDateTime> findLatestRequestedAt();
+
     List<ProjectRankingSnapshot> findAllByRequestedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    @Query("SELECT new com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotTimeDTO("
+            + "s.id, s.requestedAt) "
+            + "FROM ProjectRankingSnapshot s "
+            + "WHERE s.id > :afterId AND s.requestedAt < :before "
+            + "ORDER BY s.id ASC")
+    List<ProjectRankingSnapshotTimeDTO> findRetentionCandidates(
+            @Param("afterId") Long afterId,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+
 }
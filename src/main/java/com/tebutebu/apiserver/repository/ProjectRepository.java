@@ -1,13 +1,25 @@
 package com.tebutebu.apiserver.repository;
 
 import com.tebutebu.apiserver.domain.Project;
+import com.tebutebu.apiserver.dto.project.response.ProjectGithubUrlDTO;
+import com.tebutebu.apiserver.dto.project.response.ProjectPageRowDTO;
+import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingRowDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
@@ -20,6 +32,28 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p.id FROM Project p WHERE p.team.id = :teamId")
     Optional<Long> findProjectIdByTeamId(@Param("teamId") Long teamId);
 
+    @Query("SELECT p.team.id FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findTeamIdById(@Param("projectId") Long projectId);
+
+    interface TeamProjectId {
+        Long getTeamId();
+        Long getProjectId();
+    }
+
+    @Query("SELECT p.team.id AS teamId, p.id AS projectId FROM Project p WHERE p.team.id IN :teamIds")
+    List<TeamProjectId> findProjectIdsByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
+
+    default Map<Long, Long> findProjectIdMapByTeamIds(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        return findProjectIdsByTeamIdIn(teamIds).stream()
+                .collect(Collectors.toMap(
+                        TeamProjectId::getTeamId,
+                        TeamProjectId::getProjectId
+                ));
+    }
+
     @Query("SELECT DISTINCT p "
             + "FROM Project p "
             + "LEFT JOIN FETCH p.team t "
@@ -29,12 +63,63 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     boolean existsByTeamId(Long teamId);
 
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "LEFT JOIN FETCH p.team t " +
-            "LEFT JOIN FETCH p.images i " +
-            "ORDER BY t.givedPumatiCount DESC")
-    List<Project> findAllForRanking();
+    @Query("SELECT new com.tebutebu.apiserver.dto.project.response.ProjectPageRowDTO("
+            + "p.id, t.id, t.term, t.number, p.title, p.introduction, p.representativeImageUrl, p.tagContents, "
+            + "p.commentCount, t.givedPumatiCount, t.receivedPumatiCount, t.badgeImageUrl, p.createdAt, p.modifiedAt) "
+            + "FROM Project p "
+            + "JOIN p.team t "
+            + "WHERE p.id IN :ids")
+    List<ProjectPageRowDTO> findPageRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingRowDTO("
+            + "p.id, t.id, t.givedPumatiCount, t.receivedPumatiCount) "
+            + "FROM Project p "
+            + "JOIN p.team t "
+            + "ORDER BY t.givedPumatiCount DESC, p.id ASC")
+    List<ProjectRankingRowDTO> findAllRankingRows();
 
     boolean existsByCreatedAtAfter(LocalDateTime time);
 
+    @Query("SELECT new com.tebutebu.apiserver.dto.project.response.ProjectGithubUrlDTO(p.id, p.githubUrl) "
+            + "FROM Project p ORDER BY p.id")
+    List<ProjectGithubUrlDTO> findAllGithubUrls();
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 이 쿼리의 행을 한 줄씩 스트리밍한다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tebutebu.apiserver.dto.project.response.ProjectGithubUrlDTO(p.id, p.githubUrl) "
+            + "FROM Project p ORDER BY p.id")
+    Stream<ProjectGithubUrlDTO> streamAllGithubUrls();
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.commentCount = p.commentCount + 1 WHERE p.id = :projectId")
+    int incrementCommentCount(@Param("projectId") Long projectId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.commentCount = p.commentCount - 1 WHERE p.id = :projectId AND p.commentCount > 0")
+    int decrementCommentCount(@Param("projectId") Long projectId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Project p")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE project p "
+            + "SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.project_id = p.id) "
+            + "WHERE p.id > :afterId AND p.id <= :untilId",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("afterId") Long afterId, @Param("untilId") Long untilId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE project p "
+            + "SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.project_id = p.id) "
+            + "WHERE p.id IN (:projectIds)",
+            nativeQuery = true)
+    int recountCommentCounts(@Param("projectIds") Collection<Long> projectIds);
+
 }
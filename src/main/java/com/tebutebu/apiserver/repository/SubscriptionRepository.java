@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +18,8 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     Optional<Subscription> findByMemberIdAndProjectId(Long memberId, Long projectId);
 
     @Query("SELECT s.project.id from Subscription s " +
-            "WHERE s.member.id = :memberId AND s.deletedAt IS NULL")
-    List<Long> findSubscribedProjectIdsByMemberId(@Param("memberId") Long memberId);
+            "WHERE s.member.id = :memberId AND s.project.id IN :projectIds AND s.deletedAt IS NULL")
+    List<Long> findSubscribedProjectIdsByMemberIdAndProjectIdIn(@Param("memberId") Long memberId,
+                                                                @Param("projectIds") Collection<Long> projectIds);
 
 }
@@ -2,15 +2,24 @@ package com.tebutebu.apiserver.repository;
 
 import com.tebutebu.apiserver.domain.TeamBadgeStat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface TeamBadgeStatRepository extends JpaRepository<TeamBadgeStat, Long> {
 
-    Optional<TeamBadgeStat> findByGiverTeamIdAndReceiverTeamId(Long giverTeamId, Long receiverTeamId);
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO team_badge_stat (giver_team_id, receiver_team_id, acquired_count, created_at, modified_at) "
+            + "VALUES (:giverTeamId, :receiverTeamId, :amount, NOW(), NOW()) "
+            + "ON DUPLICATE KEY UPDATE acquired_count = acquired_count + :amount, modified_at = NOW()",
+            nativeQuery = true)
+    int upsertAcquiredCount(@Param("giverTeamId") Long giverTeamId,
+                            @Param("receiverTeamId") Long receiverTeamId,
+                            @Param("amount") int amount);
 
     @Query("SELECT t.giverTeam.term, t.giverTeam.number, t.acquiredCount FROM TeamBadgeStat t " +
             "WHERE t.receiverTeam.id = :receiverTeamId ORDER BY t.acquiredCount DESC")
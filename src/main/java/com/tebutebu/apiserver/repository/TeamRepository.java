@@ -2,6 +2,10 @@ package com.tebutebu.apiserver.repository;
 
 import com.tebutebu.apiserver.domain.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,4 +15,27 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     boolean existsByTermAndNumber(int term, int number);
 
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Team t SET "
+            + "t.givedPumatiCount = t.givedPumatiCount + :givedAmount, "
+            + "t.receivedPumatiCount = t.receivedPumatiCount + :receivedAmount "
+            + "WHERE t.id = :teamId")
+    int incrementPumatiCounts(
+            @Param("teamId") Long teamId,
+            @Param("givedAmount") long givedAmount,
+            @Param("receivedAmount") long receivedAmount
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Team t SET t.givedPumatiCount = 0, t.receivedPumatiCount = 0")
+    int resetAllPumatiCounts();
+
+    @Query("SELECT t.givedPumatiCount FROM Team t WHERE t.id = :teamId")
+    Optional<Long> findGivedPumatiCountById(@Param("teamId") Long teamId);
+
+    @Query("SELECT t.receivedPumatiCount FROM Team t WHERE t.id = :teamId")
+    Optional<Long> findReceivedPumatiCountById(@Param("teamId") Long teamId);
+
 }
@@ -0,0 +1,27 @@
+package com.tebutebu.apiserver.repository;
+
+import com.tebutebu.apiserver.domain.TeamWeeklyPumatiHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface TeamWeeklyPumatiHistoryRepository extends JpaRepository<TeamWeeklyPumatiHistory, Long> {
+
+    Optional<TeamWeeklyPumatiHistory> findByTeamIdAndWeekStartDate(Long teamId, LocalDate weekStartDate);
+
+    // 같은 주차를 다시 보관하면 먼저 기록된 값을 유지한다.
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO team_weekly_pumati_history "
+            + "(team_id, week_start_date, gived_pumati_count, received_pumati_count, created_at, modified_at) "
+            + "SELECT t.id, :weekStartDate, t.gived_pumati_count, t.received_pumati_count, NOW(), NOW() "
+            + "FROM team t",
+            nativeQuery = true)
+    int archiveCurrentCounts(@Param("weekStartDate") LocalDate weekStartDate);
+
+}
@@ -8,12 +8,16 @@ import com.tebutebu.apiserver.dto.ai.badge.response.TeamBadgeStatPageResponseDTO
 import com.tebutebu.apiserver.pagination.dto.request.ContextCountCursorPageRequestDTO;
 import com.tebutebu.apiserver.pagination.factory.CursorPageFactory;
 import com.tebutebu.apiserver.pagination.factory.CursorPageSpec;
+import com.tebutebu.apiserver.pagination.factory.FetchJoin;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
 import com.tebutebu.apiserver.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -47,10 +51,13 @@ public class TeamBadgeStatPagingRepositoryImpl implements TeamBadgeStatPagingRep
 
         CursorPageSpec<TeamBadgeStat> spec = CursorPageSpec.<TeamBadgeStat>builder()
                 .entityPath(qTeamBadgeStat)
+                .fetchJoins(List.of(FetchJoin.of(qTeamBadgeStat.giverTeam)))
                 .where(where)
                 .orderBy(orderBy)
                 .idExpr(qTeamBadgeStat.id)
                 .countExpr(qTeamBadgeStat.acquiredCount)
+                .idExtractor(TeamBadgeStat::getId)
+                .countExtractor(TeamBadgeStat::getAcquiredCount)
                 .cursorId(cursorId)
                 .cursorCount(cursorCount)
                 .pageSize(req.getPageSize())
@@ -58,10 +65,15 @@ public class TeamBadgeStatPagingRepositoryImpl implements TeamBadgeStatPagingRep
 
         CursorPage<TeamBadgeStat> page = cursorPageFactory.createForCount(spec);
 
+        Set<Long> giverTeamIds = page.items().stream()
+                .map(badge -> badge.getGiverTeam().getId())
+                .collect(Collectors.toSet());
+        Map<Long, Long> projectIdByTeamId = projectRepository.findProjectIdMapByTeamIds(giverTeamIds);
+
         List<TeamBadgeStatPageResponseDTO> responseList = page.items().stream()
                 .map(badge -> TeamBadgeStatPageResponseDTO.builder()
                         .id(badge.getId())
-                        .projectId(projectRepository.findProjectIdByTeamId(badge.getGiverTeam().getId()).orElse(null))
+                        .projectId(projectIdByTeamId.get(badge.getGiverTeam().getId()))
                         .giverTeamId(badge.getGiverTeam().getId())
                         .giverTeamTerm(badge.getGiverTeam().getTerm())
                         .giverTeamNumber(badge.getGiverTeam().getNumber())
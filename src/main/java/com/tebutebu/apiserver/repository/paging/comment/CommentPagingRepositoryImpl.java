@@ -1,20 +1,22 @@
 package com.tebutebu.apiserver.repository.paging.comment;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
-import com.tebutebu.apiserver.domain.Comment;
+import com.querydsl.core.types.Projections;
 import com.tebutebu.apiserver.domain.QComment;
+import com.tebutebu.apiserver.domain.QMember;
 import com.tebutebu.apiserver.dto.comment.response.AuthorDTO;
 import com.tebutebu.apiserver.dto.comment.response.CommentResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.request.CursorTimePageRequestDTO;
 import com.tebutebu.apiserver.pagination.factory.CursorPageFactory;
 import com.tebutebu.apiserver.pagination.factory.CursorPageSpec;
+import com.tebutebu.apiserver.pagination.factory.FetchJoin;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,6 +26,8 @@ public class CommentPagingRepositoryImpl implements CommentPagingRepository {
 
     private final QComment qComment = QComment.comment;
 
+    private final QMember qMember = QMember.member;
+
     @Override
     public CursorPage<CommentResponseDTO> findByProjectLatestCursor(Long projectId, CursorTimePageRequestDTO req) {
         BooleanBuilder where = new BooleanBuilder();
@@ -34,46 +38,40 @@ public class CommentPagingRepositoryImpl implements CommentPagingRepository {
                 qComment.id.desc()
         };
 
-        CursorPageSpec<Comment> spec = CursorPageSpec.<Comment>builder()
+        CursorPageSpec<CommentResponseDTO> spec = CursorPageSpec.<CommentResponseDTO>builder()
                 .entityPath(qComment)
+                .projection(commentResponse())
+                .fetchJoins(List.of(FetchJoin.of(qComment.member, qMember)))
                 .where(where)
                 .orderBy(orderBy)
                 .createdAtExpr(qComment.createdAt)
                 .idExpr(qComment.id)
+                .idExtractor(CommentResponseDTO::getId)
+                .timeExtractor(CommentResponseDTO::getCreatedAt)
                 .cursorId(req.getCursorId())
                 .cursorTime(req.getCursorTime())
                 .pageSize(req.getPageSize())
                 .build();
-        CursorPage<Comment> page = cursorPageFactory.create(spec);
-
-        List<CommentResponseDTO> commentResponseDtoList = page.items().stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
-
-        return CursorPage.<CommentResponseDTO>builder()
-                .items(commentResponseDtoList)
-                .nextCursorId(page.nextCursorId())
-                .nextCursorTime(page.nextCursorTime())
-                .hasNext(page.hasNext())
-                .build();
+        return cursorPageFactory.create(spec);
     }
 
-    private CommentResponseDTO toResponseDTO(Comment comment) {
-        return CommentResponseDTO.builder()
-                .id(comment.getId())
-                .projectId(comment.getProject().getId())
-                .type(comment.getType())
-                .content(comment.getContent())
-                .author(AuthorDTO.builder()
-                        .id(comment.getMember().getId())
-                        .name(comment.getMember().getName())
-                        .nickname(comment.getMember().getNickname())
-                        .course(comment.getMember().getCourse())
-                        .profileImageUrl(comment.getMember().getProfileImageUrl())
-                        .build())
-                .createdAt(comment.getCreatedAt())
-                .modifiedAt(comment.getModifiedAt())
-                .build();
+    // 작성자 컬럼까지 한 번의 조회로 가져온다.
+    private ConstructorExpression<CommentResponseDTO> commentResponse() {
+        return Projections.constructor(CommentResponseDTO.class,
+                qComment.id,
+                qComment.project.id,
+                qComment.type,
+                qComment.content,
+                Projections.constructor(AuthorDTO.class,
+                        qMember.id,
+                        qMember.name,
+                        qMember.nickname,
+                        qMember.course,
+                        qMember.profileImageUrl
+                ),
+                qComment.createdAt,
+                qComment.modifiedAt
+        );
     }
 
 }
@@ -1,37 +1,34 @@
 package com.tebutebu.apiserver.repository.paging.project;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
-import com.tebutebu.apiserver.domain.Project;
-import com.tebutebu.apiserver.domain.ProjectRankingSnapshot;
+import com.querydsl.core.types.Projections;
 import com.tebutebu.apiserver.domain.QProject;
 import com.tebutebu.apiserver.domain.QSubscription;
-import com.tebutebu.apiserver.domain.Subscription;
+import com.tebutebu.apiserver.domain.QTeam;
 import com.tebutebu.apiserver.dto.project.response.ProjectPageResponseDTO;
-import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotResponseDTO;
+import com.tebutebu.apiserver.dto.project.response.ProjectPageRowDTO;
+import com.tebutebu.apiserver.dto.project.response.SubscribedProjectPageRowDTO;
 import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
 import com.tebutebu.apiserver.dto.tag.response.TagResponseDTO;
-import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
-import com.tebutebu.apiserver.global.exception.BusinessException;
 import com.tebutebu.apiserver.pagination.dto.request.ContextCursorPageRequestDTO;
 import com.tebutebu.apiserver.pagination.dto.request.CursorTimePageRequestDTO;
 import com.tebutebu.apiserver.pagination.factory.CursorPageSpec;
+import com.tebutebu.apiserver.pagination.factory.FetchJoin;
 import com.tebutebu.apiserver.pagination.factory.CursorPageFactory;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
-import com.tebutebu.apiserver.repository.CommentRepository;
-import com.tebutebu.apiserver.repository.ProjectRankingSnapshotRepository;
 import com.tebutebu.apiserver.repository.ProjectRepository;
 import com.tebutebu.apiserver.repository.SubscriptionRepository;
+import com.tebutebu.apiserver.service.project.snapshot.IndexedRankingSnapshot;
+import com.tebutebu.apiserver.service.project.snapshot.ProjectPositionIndex;
+import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -39,91 +36,50 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProjectPagingRepositoryImpl implements ProjectPagingRepository {
 
-    private final ProjectRankingSnapshotRepository snapshotRepository;
-
     private final ProjectRepository projectRepository;
 
-    private final CommentRepository commentRepository;
-
     private final SubscriptionRepository subscriptionRepository;
 
     private final CursorPageFactory cursorPageFactory;
 
-    private final ObjectMapper objectMapper;
-
-    private final RedisTemplate<String, ProjectRankingSnapshotResponseDTO> snapshotRedisTemplate;
+    private final ProjectRankingSnapshotCache projectRankingSnapshotCache;
 
     private final QProject qProject = QProject.project;
 
-    @Value("${ranking.snapshot.cache.key-prefix}")
-    private String snapshotCacheKeyPrefix;
-
-    @Value("${ranking.snapshot.duration.minutes:5}")
-    private long snapshotDurationMinutes;
+    private final QTeam qTeam = QTeam.team;
 
     @Override
     public CursorPage<ProjectPageResponseDTO> findByRankingCursor(ContextCursorPageRequestDTO req) {
-        Long snapshotId = req.getContextId();
-        String cacheKey = snapshotCacheKeyPrefix + snapshotId;
-
-        Object rawCachedValue = snapshotRedisTemplate.opsForValue().get(cacheKey);
-        ProjectRankingSnapshotResponseDTO cachedSnapshot = null;
-
-        if (rawCachedValue != null) {
-            try {
-                cachedSnapshot = objectMapper.convertValue(
-                        objectMapper.convertValue(rawCachedValue, Object.class),
-                        new TypeReference<>() {
-                        }
-                );
-            } catch (IllegalArgumentException e) {
-                log.warn("Failed to convert cached snapshot. key={}, class={}", cacheKey, rawCachedValue.getClass(), e);
-            }
-        }
-
-        List<RankingItemDTO> dtoList;
-        if (cachedSnapshot != null) {
-            dtoList = cachedSnapshot.getData();
-        } else {
-            ProjectRankingSnapshot snapshot = snapshotRepository.findById(snapshotId)
-                    .orElseThrow(() -> new NoSuchElementException("snapshotNotFound"));
-            dtoList = parseSnapshotJson(snapshot);
-
-            ProjectRankingSnapshotResponseDTO dto = ProjectRankingSnapshotResponseDTO.builder()
-                    .id(snapshotId)
-                    .data(dtoList)
-                    .build();
-
-            snapshotRedisTemplate.opsForValue().set(cacheKey, dto, Duration.ofMinutes(snapshotDurationMinutes));
-        }
+        IndexedRankingSnapshot snapshot = projectRankingSnapshotCache.getIndexed(req.getContextId());
+        List<RankingItemDTO> dtoList = snapshot.items();
 
-        int start = calculateStartIndex(dtoList, req.getCursorId());
+        int start = calculateStartIndex(snapshot, req.getCursorId(), req.getCursorOffset());
         int end = Math.min(start + req.getPageSize(), dtoList.size());
 
-        List<Long> projectIds = dtoList.subList(start, end).stream()
-                .map(RankingItemDTO::getProjectId)
-                .collect(Collectors.toList());
-
-        List<Project> projects = projectRepository.findAllById(projectIds).stream()
-                .sorted(Comparator.comparingInt(p -> projectIds.indexOf(p.getId())))
-                .toList();
+        List<Long> projectIds = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            projectIds.add(dtoList.get(i).getProjectId());
+        }
 
-        Map<Long, Long> commentCountMap = commentRepository.findCommentCountMap(projectIds);
-        Set<Long> subscribedProjectIds = (req.getMemberId() != null)
-                ? new HashSet<>(subscriptionRepository.findSubscribedProjectIdsByMemberId(req.getMemberId()))
-                : Collections.emptySet();
+        Map<Long, ProjectPageRowDTO> rowById = projectRepository.findPageRowsByIdIn(projectIds).stream()
+                .collect(Collectors.toMap(ProjectPageRowDTO::getId, Function.identity()));
+        Set<Long> subscribedProjectIds = findSubscribedProjectIds(req.getMemberId(), projectIds);
 
-        List<ProjectPageResponseDTO> projectPageResponseDtoList = projects.stream()
-                .map(proj -> toPageResponseDTO(proj, commentCountMap, subscribedProjectIds))
+        List<ProjectPageResponseDTO> projectPageResponseDtoList = projectIds.stream()
+                .map(rowById::get)
+                .filter(Objects::nonNull)
+                .map(row -> toPageResponseDTO(row, subscribedProjectIds))
                 .toList();
 
         boolean hasNext = end < dtoList.size();
         Long nextCursorId = hasNext ? dtoList.get(end - 1).getProjectId() : null;
+        Integer nextCursorOffset = hasNext ? end : null;
 
         return CursorPage.<ProjectPageResponseDTO>builder()
                 .items(projectPageResponseDtoList)
                 .nextCursorId(nextCursorId)
                 .nextCursorTime(null)
+                .nextCursorOffset(nextCursorOffset)
                 .hasNext(hasNext)
                 .build();
     }
@@ -136,26 +92,27 @@ public class ProjectPagingRepositoryImpl implements ProjectPagingRepository {
                 qProject.id.desc()
         };
 
-        CursorPageSpec<Project> spec = CursorPageSpec.<Project>builder()
+        CursorPageSpec<ProjectPageRowDTO> spec = CursorPageSpec.<ProjectPageRowDTO>builder()
                 .entityPath(qProject)
+                .projection(projectPageRow())
+                .fetchJoins(List.of(FetchJoin.of(qProject.team, qTeam)))
                 .where(where)
                 .orderBy(orderBy)
                 .createdAtExpr(qProject.createdAt)
                 .idExpr(qProject.id)
+                .idExtractor(ProjectPageRowDTO::getId)
+                .timeExtractor(ProjectPageRowDTO::getCreatedAt)
                 .cursorId(req.getCursorId())
                 .cursorTime(req.getCursorTime())
                 .pageSize(req.getPageSize())
                 .build();
 
-        CursorPage<Project> page = cursorPageFactory.create(spec);
-        List<Long> projectIds = page.items().stream().map(Project::getId).toList();
-        Map<Long, Long> commentCountMap = commentRepository.findCommentCountMap(projectIds);
-        Set<Long> subscribedProjectIds = (req.getMemberId() != null)
-                ? new HashSet<>(subscriptionRepository.findSubscribedProjectIdsByMemberId(req.getMemberId()))
-                : Collections.emptySet();
+        CursorPage<ProjectPageRowDTO> page = cursorPageFactory.create(spec);
+        List<Long> projectIds = page.items().stream().map(ProjectPageRowDTO::getId).toList();
+        Set<Long> subscribedProjectIds = findSubscribedProjectIds(req.getMemberId(), projectIds);
 
         List<ProjectPageResponseDTO> projectPageResponseDtoList = page.items().stream()
-                .map(proj -> toPageResponseDTO(proj, commentCountMap, subscribedProjectIds))
+                .map(row -> toPageResponseDTO(row, subscribedProjectIds))
                 .toList();
 
         return CursorPage.<ProjectPageResponseDTO>builder()
@@ -173,34 +130,40 @@ public class ProjectPagingRepositoryImpl implements ProjectPagingRepository {
         BooleanBuilder where = new BooleanBuilder();
         where.and(subscription.member.id.eq(memberId));
         where.and(subscription.deletedAt.isNull());
-        where.and(subscription.project.team.term.eq(term));
+        where.and(qTeam.term.eq(term));
 
         OrderSpecifier<?>[] orderBy = new OrderSpecifier<?>[]{
                 subscription.modifiedAt.desc(),
                 subscription.id.desc()
         };
 
-        CursorPageSpec<Subscription> spec = CursorPageSpec.<Subscription>builder()
+        CursorPageSpec<SubscribedProjectPageRowDTO> spec = CursorPageSpec.<SubscribedProjectPageRowDTO>builder()
                 .entityPath(subscription)
+                .projection(Projections.constructor(SubscribedProjectPageRowDTO.class,
+                        subscription.id,
+                        subscription.modifiedAt,
+                        projectPageRow()
+                ))
+                .fetchJoins(List.of(
+                        FetchJoin.of(subscription.project, qProject),
+                        FetchJoin.of(qProject.team, qTeam)
+                ))
                 .where(where)
                 .orderBy(orderBy)
                 .createdAtExpr(subscription.modifiedAt)
                 .idExpr(subscription.id)
+                .idExtractor(SubscribedProjectPageRowDTO::getSubscriptionId)
+                .timeExtractor(SubscribedProjectPageRowDTO::getSubscriptionModifiedAt)
                 .cursorId(req.getCursorId())
                 .cursorTime(req.getCursorTime())
                 .pageSize(req.getPageSize())
                 .build();
 
-        CursorPage<Subscription> page = cursorPageFactory.create(spec);
-        List<Project> projects = page.items().stream()
-                .map(Subscription::getProject)
-                .toList();
-
-        List<Long> projectIds = projects.stream().map(Project::getId).toList();
-        Map<Long, Long> commentCountMap = commentRepository.findCommentCountMap(projectIds);
+        CursorPage<SubscribedProjectPageRowDTO> page = cursorPageFactory.create(spec);
 
-        List<ProjectPageResponseDTO> pageResponseDtoList = projects.stream()
-                .map(proj -> toPageResponseDTO(proj, commentCountMap, Set.of(proj.getId())))
+        List<ProjectPageResponseDTO> pageResponseDtoList = page.items().stream()
+                .map(SubscribedProjectPageRowDTO::getProject)
+                .map(row -> toPageResponseDTO(row, Set.of(row.getId())))
                 .toList();
 
         return CursorPage.<ProjectPageResponseDTO>builder()
@@ -211,49 +174,61 @@ public class ProjectPagingRepositoryImpl implements ProjectPagingRepository {
                 .build();
     }
 
-    private List<RankingItemDTO> parseSnapshotJson(ProjectRankingSnapshot snapshot) {
-        try {
-            Map<String, List<RankingItemDTO>> map = objectMapper.readValue(
-                    snapshot.getRankingData(),
-                    new TypeReference<>() {}
-            );
-            return map.get("projects");
-        } catch (Exception e) {
-            log.error("Failed to parse snapshot JSON for snapshotId={}", snapshot.getId(), e);
-            throw new BusinessException(BusinessErrorCode.SNAPSHOT_SERIALIZATION_FAILED, e);
+    // 페이지 응답에 필요한 컬럼만 조회한다. (detailed_description 등 제외)
+    private ConstructorExpression<ProjectPageRowDTO> projectPageRow() {
+        return Projections.constructor(ProjectPageRowDTO.class,
+                qProject.id,
+                qTeam.id,
+                qTeam.term,
+                qTeam.number,
+                qProject.title,
+                qProject.introduction,
+                qProject.representativeImageUrl,
+                qProject.tagContents,
+                qProject.commentCount,
+                qTeam.givedPumatiCount,
+                qTeam.receivedPumatiCount,
+                qTeam.badgeImageUrl,
+                qProject.createdAt,
+                qProject.modifiedAt
+        );
+    }
+
+    private Set<Long> findSubscribedProjectIds(Long memberId, List<Long> projectIds) {
+        if (memberId == null || projectIds.isEmpty()) {
+            return Collections.emptySet();
         }
+        return new HashSet<>(subscriptionRepository.findSubscribedProjectIdsByMemberIdAndProjectIdIn(memberId, projectIds));
     }
 
-    private int calculateStartIndex(List<RankingItemDTO> all, Long afterId) {
-        if (afterId == null) return 0;
-        for (int i = 0; i < all.size(); i++) {
-            if (all.get(i).getProjectId().equals(afterId)) {
-                return i + 1;
-            }
+    private int calculateStartIndex(IndexedRankingSnapshot snapshot, Long afterId, Integer offset) {
+        if (offset != null) {
+            return Math.min(offset, snapshot.size());
         }
-        return 0;
+        int position = snapshot.positionOf(afterId);
+        return position == ProjectPositionIndex.NOT_FOUND ? 0 : position + 1;
     }
 
-    private ProjectPageResponseDTO toPageResponseDTO(Project project, Map<Long, Long> commentCountMap, Set<Long> subscribedIds) {
-        boolean isSubscribed = subscribedIds != null && subscribedIds.contains(project.getId());
+    private ProjectPageResponseDTO toPageResponseDTO(ProjectPageRowDTO row, Set<Long> subscribedIds) {
+        boolean isSubscribed = subscribedIds != null && subscribedIds.contains(row.getId());
         return ProjectPageResponseDTO.builder()
-                .id(project.getId())
-                .teamId(project.getTeam().getId())
-                .term(project.getTeam().getTerm())
-                .teamNumber(project.getTeam().getNumber())
-                .title(project.getTitle())
-                .introduction(project.getIntroduction())
-                .representativeImageUrl(project.getRepresentativeImageUrl())
-                .tags(project.getTagContents().stream()
+                .id(row.getId())
+                .teamId(row.getTeamId())
+                .term(row.getTerm())
+                .teamNumber(row.getTeamNumber())
+                .title(row.getTitle())
+                .introduction(row.getIntroduction())
+                .representativeImageUrl(row.getRepresentativeImageUrl())
+                .tags(row.getTags() == null ? List.of() : row.getTags().stream()
                         .map(t -> new TagResponseDTO(t.getContent()))
                         .toList())
-                .commentCount(commentCountMap.getOrDefault(project.getId(), 0L))
-                .givedPumatiCount(project.getTeam().getGivedPumatiCount())
-                .receivedPumatiCount(project.getTeam().getReceivedPumatiCount())
-                .badgeImageUrl(project.getTeam().getBadgeImageUrl())
+                .commentCount(row.getCommentCount())
+                .givedPumatiCount(row.getGivedPumatiCount())
+                .receivedPumatiCount(row.getReceivedPumatiCount())
+                .badgeImageUrl(row.getBadgeImageUrl())
                 .isSubscribed(isSubscribed)
-                .createdAt(project.getCreatedAt())
-                .modifiedAt(project.getModifiedAt())
+                .createdAt(row.getCreatedAt())
+                .modifiedAt(row.getModifiedAt())
                 .build();
     }
 
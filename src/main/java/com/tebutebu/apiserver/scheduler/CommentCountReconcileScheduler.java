@@ -0,0 +1,112 @@
+package com.tebutebu.apiserver.scheduler;
+
+import com.tebutebu.apiserver.service.comment.CommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+
+    private final CommentService commentService;
+
+    private final RedissonClient redissonClient;
+
+    @Value("${scheduler.comment-count.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Value("${scheduler.comment-count.lock-key:lock:comment-count:reconcile}")
+    private String lockKey;
+
+    @Value("${scheduler.comment-count.backfill-marker-key:comment-count:backfilled}")
+    private String backfillMarkerKey;
+
+    /**
+     * comment_count 컬럼 도입 시 기존 프로젝트를 한 번만 채운다.
+     * 기동을 막지 않도록 비동기로 실행하며, 채우기가 끝나기 전까지는 기존 프로젝트의 댓글 수가 0으로 보일 수 있다.
+     * 다른 노드가 이미 잠금을 잡고 있으면 건너뛴다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        RBucket<String> marker = redissonClient.getBucket(backfillMarkerKey, StringCodec.INSTANCE);
+        if (marker.isExists()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(lockKey);
+        boolean isLocked = false;
+        try {
+            isLocked = lock.tryLock(0, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+            if (marker.isExists()) {
+                return;
+            }
+            if (reconcileAll()) {
+                marker.set(String.valueOf(System.currentTimeMillis()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(
+            cron = "${scheduler.comment-count.reconcile-cron:0 0 4 * * *}",
+            zone = "${scheduler.comment-count.reconcile-zone:Asia/Seoul}"
+    )
+    public void reconcileCommentCounts() {
+        RLock lock = redissonClient.getLock(lockKey);
+        boolean isLocked = false;
+        try {
+            // 한 노드만 전체 테이블을 갱신한다.
+            isLocked = lock.tryLock(0, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+            reconcileAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean reconcileAll() {
+        long cursor = 0L;
+        try {
+            // 프로젝트 ID 구간마다 트랜잭션을 나눠 긴 락을 피한다.
+            boolean hasMore;
+            do {
+                hasMore = commentService.reconcileCommentCounts(cursor, batchSize);
+                cursor += batchSize;
+            } while (hasMore);
+        } catch (Exception e) {
+            log.error("Failed to reconcile comment counts after project ID={}", cursor, e);
+            return false;
+        }
+        log.info("Reconciled project comment counts up to project ID={}", cursor);
+        return true;
+    }
+
+}
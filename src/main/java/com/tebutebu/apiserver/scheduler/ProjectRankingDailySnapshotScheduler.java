@@ -0,0 +1,37 @@
+package com.tebutebu.apiserver.scheduler;
+
+import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectRankingDailySnapshotScheduler {
+
+    private final ProjectRankingSnapshotService projectRankingSnapshotService;
+
+    @Value("${scheduler.ranking-daily-snapshot.backfill-days:7}")
+    private int backfillDays;
+
+    @Scheduled(
+            cron = "${scheduler.ranking-daily-snapshot.rollup-cron:0 5 0 * * *}",
+            zone = "${scheduler.ranking-daily-snapshot.rollup-zone:Asia/Seoul}"
+    )
+    public void rollupDailySnapshots() {
+        log.info("Rolling up daily ranking snapshots");
+        try {
+            projectRankingSnapshotService.rollupDailySnapshots(LocalDate.now().minusDays(1), backfillDays);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 롤업한 경우
+            log.info("Daily ranking rollup already written by another node");
+        }
+    }
+
+}
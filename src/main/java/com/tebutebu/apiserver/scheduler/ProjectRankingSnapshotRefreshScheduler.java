@@ -0,0 +1,28 @@
+package com.tebutebu.apiserver.scheduler;
+
+import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectRankingSnapshotRefreshScheduler {
+
+    private final ProjectRankingSnapshotService projectRankingSnapshotService;
+
+    @Scheduled(
+            fixedDelayString = "${scheduler.ranking-snapshot.refresh-delay-ms:10000}",
+            initialDelayString = "${scheduler.ranking-snapshot.refresh-delay-ms:10000}"
+    )
+    public void refreshRankingSnapshot() {
+        try {
+            projectRankingSnapshotService.refreshAhead();
+        } catch (Exception e) {
+            log.warn("Failed to refresh ranking snapshot ahead of expiry", e);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.tebutebu.apiserver.scheduler;
+
+import com.tebutebu.apiserver.service.project.snapshot.retention.ProjectRankingSnapshotRetentionService;
+import com.tebutebu.apiserver.service.project.snapshot.retention.SnapshotCompactionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectRankingSnapshotRetentionScheduler {
+
+    private final ProjectRankingSnapshotRetentionService projectRankingSnapshotRetentionService;
+
+    @Value("${scheduler.ranking-snapshot.retention-max-batches:100}")
+    private int maxBatches;
+
+    @Scheduled(
+            cron = "${scheduler.ranking-snapshot.retention-cron:0 30 * * * *}",
+            zone = "${scheduler.ranking-snapshot.retention-zone:Asia/Seoul}"
+    )
+    public void compactSnapshots() {
+        LocalDateTime now = LocalDateTime.now();
+        Long cursor = 0L;
+        int deleted = 0;
+        try {
+            // 배치마다 트랜잭션을 나눠 긴 락을 피한다.
+            for (int batch = 0; batch < maxBatches; batch++) {
+                SnapshotCompactionResult result = projectRankingSnapshotRetentionService.compactBatch(cursor, now);
+                deleted += result.deletedCount();
+                cursor = result.nextCursor();
+                if (!result.hasMore()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to compact ranking snapshots after deleting {} rows", deleted, e);
+            return;
+        }
+        log.info("Compacted ranking snapshots. deleted={}", deleted);
+    }
+
+}
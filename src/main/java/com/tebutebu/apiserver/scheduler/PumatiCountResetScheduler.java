@@ -1,6 +1,7 @@
 package com.tebutebu.apiserver.scheduler;
 
 import com.tebutebu.apiserver.service.team.TeamService;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounterFlusher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -13,11 +14,16 @@ public class PumatiCountResetScheduler {
 
     private final TeamService teamService;
 
+    private final PumatiCounterFlusher pumatiCounterFlusher;
+
     @Scheduled(
             cron = "${scheduler.pumati-count.reset-cron}",
             zone = "${scheduler.pumati-count.reset-zone}"
     )
     public void resetWeeklyPumatiCounts() {
+        // 남아 있는 증가분은 초기화 트랜잭션과 별개로 먼저 커밋해 롤백되더라도 유실되지 않게 한다.
+        pumatiCounterFlusher.flushAll();
+
         log.info("Resetting all team pumati counts");
         teamService.resetAllPumatiCounts();
     }
@@ -0,0 +1,33 @@
+package com.tebutebu.apiserver.scheduler;
+
+import com.tebutebu.apiserver.service.team.counter.PumatiCounterFlusher;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PumatiCounterFlushScheduler {
+
+    private final PumatiCounterFlusher pumatiCounterFlusher;
+
+    @Scheduled(fixedDelayString = "${scheduler.pumati-counter.click-drain-delay-ms:200}")
+    public void drainPumatiClicks() {
+        pumatiCounterFlusher.drainClicks();
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.pumati-counter.flush-delay-ms:1000}")
+    public void flushPumatiCounters() {
+        pumatiCounterFlusher.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending pumati counters before shutdown");
+        pumatiCounterFlusher.flushAll();
+    }
+
+}
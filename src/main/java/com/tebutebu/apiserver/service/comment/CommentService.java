@@ -32,6 +32,8 @@ public interface CommentService {
 
     void removeAiComment(Long commentId);
 
+    boolean reconcileCommentCounts(Long afterId, int batchSize);
+
     Comment dtoToEntity(Long projectId, Long memberId, CommentCreateRequestDTO dto);
 
     default CommentResponseDTO entityToDTO(Comment comment) {
@@ -16,6 +16,7 @@ import com.tebutebu.apiserver.pagination.dto.response.CursorPageResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.TimeCursorMetaDTO;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
 import com.tebutebu.apiserver.repository.CommentRepository;
+import com.tebutebu.apiserver.repository.ProjectRepository;
 import com.tebutebu.apiserver.repository.paging.comment.CommentPagingRepository;
 import com.tebutebu.apiserver.service.member.MemberService;
 import com.tebutebu.apiserver.service.project.ProjectService;
@@ -34,6 +35,8 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentPagingRepository commentPagingRepository;
 
+    private final ProjectRepository projectRepository;
+
     private final MemberService memberService;
 
     private final ProjectService projectService;
@@ -75,9 +78,11 @@ public class CommentServiceImpl implements CommentService {
     public Long register(Long projectId, Long memberId, CommentCreateRequestDTO dto) {
         Comment comment = dtoToEntity(projectId, memberId, dto);
         Comment saved = commentRepository.save(comment);
+        incrementCommentCount(projectId);
 
         Long giverTeamId    = memberService.get(memberId).getTeamId();
-        Long receiverTeamId = projectService.get(projectId, memberId).getTeamId();
+        Long receiverTeamId = projectRepository.findTeamIdById(projectId)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.PROJECT_NOT_FOUND));
 
         if (!giverTeamId.equals(receiverTeamId)) {
             teamService.incrementGivedPumatiBy(giverTeamId,    commentPumatiCount);
@@ -102,10 +107,11 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void remove(Long commentId) {
-        if (!commentRepository.existsById(commentId)) {
-            throw new BusinessException(BusinessErrorCode.COMMENT_NOT_FOUND);
-        }
-        commentRepository.deleteById(commentId);
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.COMMENT_NOT_FOUND));
+
+        commentRepository.delete(comment);
+        decrementCommentCount(comment.getProject().getId());
     }
 
     @Override
@@ -123,7 +129,9 @@ public class CommentServiceImpl implements CommentService {
                 .content(dto.getContent())
                 .build();
 
-        return commentRepository.save(comment).getId();
+        Long commentId = commentRepository.save(comment).getId();
+        incrementCommentCount(projectId);
+        return commentId;
     }
 
     @Override
@@ -149,6 +157,15 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentRepository.delete(comment);
+        decrementCommentCount(comment.getProject().getId());
+    }
+
+    @Override
+    public boolean reconcileCommentCounts(Long afterId, int batchSize) {
+        long untilId = afterId + batchSize;
+        int updated = projectRepository.reconcileCommentCounts(afterId, untilId);
+        log.debug("Reconciled comment counts for project IDs ({}, {}]. updated={}", afterId, untilId, updated);
+        return untilId < projectRepository.findMaxId();
     }
 
     @Override
@@ -161,4 +178,16 @@ public class CommentServiceImpl implements CommentService {
                 .build();
     }
 
+    private void incrementCommentCount(Long projectId) {
+        if (projectRepository.incrementCommentCount(projectId) == 0) {
+            throw new BusinessException(BusinessErrorCode.PROJECT_NOT_FOUND);
+        }
+        projectService.evictDetail(projectId);
+    }
+
+    private void decrementCommentCount(Long projectId) {
+        projectRepository.decrementCommentCount(projectId);
+        projectService.evictDetail(projectId);
+    }
+
 }
@@ -13,9 +13,11 @@ import com.tebutebu.apiserver.dto.member.response.MemberSignupResponseDTO;
 import com.tebutebu.apiserver.dto.oauth.request.OAuthCreateRequestDTO;
 import com.tebutebu.apiserver.dto.team.response.TeamResponseDTO;
 import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
+import com.tebutebu.apiserver.repository.CommentRepository;
 import com.tebutebu.apiserver.repository.MemberRepository;
 import com.tebutebu.apiserver.security.dto.CustomOAuth2User;
 import com.tebutebu.apiserver.service.oauth.OAuthService;
+import com.tebutebu.apiserver.service.project.ProjectService;
 import com.tebutebu.apiserver.service.token.RefreshTokenService;
 import com.tebutebu.apiserver.service.team.TeamService;
 import com.tebutebu.apiserver.global.exception.BusinessException;
@@ -58,6 +60,10 @@ public class MemberServiceImpl implements MemberService {
 
     private final TeamService teamService;
 
+    private final ProjectService projectService;
+
+    private final CommentRepository commentRepository;
+
     private final OAuthService oauthService;
 
     private final RefreshTokenService refreshTokenService;
@@ -226,7 +232,10 @@ public class MemberServiceImpl implements MemberService {
                 request.isSecure()
         );
 
+        // 회원 삭제 시 댓글이 함께 지워지므로 해당 프로젝트의 댓글 수를 다시 센다.
+        List<Long> commentedProjectIds = commentRepository.findProjectIdsByMemberId(memberId);
         memberRepository.deleteById(memberId);
+        projectService.recountCommentCounts(commentedProjectIds);
     }
 
     public Long extractMemberIdFromHeader(String authorizationHeader) {
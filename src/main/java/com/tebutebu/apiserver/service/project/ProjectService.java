@@ -14,9 +14,12 @@ import com.tebutebu.apiserver.pagination.dto.request.CursorTimePageRequestDTO;
 import com.tebutebu.apiserver.pagination.dto.response.CursorPageResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.CursorMetaDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.TimeCursorMetaDTO;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounts;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Transactional
 public interface ProjectService {
@@ -42,15 +45,22 @@ public interface ProjectService {
     @Transactional(readOnly = true)
     List<ProjectGithubUrlDTO> getAllGithubUrls();
 
+    @Transactional(readOnly = true)
+    void exportGithubUrls(Consumer<ProjectGithubUrlDTO> sink);
+
     Long register(ProjectCreateRequestDTO dto);
 
     void modify(Long projectId, ProjectUpdateRequestDTO dto);
 
     void delete(Long projectId);
 
+    void evictDetail(Long projectId);
+
+    void recountCommentCounts(Collection<Long> projectIds);
+
     Project dtoToEntity(ProjectCreateRequestDTO dto);
 
-    default ProjectResponseDTO entityToDTO(Project project, Team team, List<ProjectImageResponseDTO> images, List<TagResponseDTO> tags, Integer teamRank, Long commentCount, boolean isSubscribed) {
+    default ProjectResponseDTO entityToDTO(Project project, Team team, List<ProjectImageResponseDTO> images, List<TagResponseDTO> tags, Integer teamRank, PumatiCounts pumatiCounts, Long commentCount, boolean isSubscribed) {
         return ProjectResponseDTO.builder()
                 .id(project.getId())
                 .teamId(team.getId())
@@ -58,8 +68,8 @@ public interface ProjectService {
                 .term(team.getTerm())
                 .teamNumber(team.getNumber())
                 .commentCount(commentCount)
-                .givedPumatiCount(team.getGivedPumatiCount())
-                .receivedPumatiCount(team.getReceivedPumatiCount())
+                .givedPumatiCount(pumatiCounts.givedPumatiCount())
+                .receivedPumatiCount(pumatiCounts.receivedPumatiCount())
                 .badgeImageUrl(team.getBadgeImageUrl())
                 .title(project.getTitle())
                 .introduction(project.getIntroduction())
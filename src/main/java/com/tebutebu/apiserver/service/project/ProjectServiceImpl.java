@@ -13,7 +13,6 @@ import com.tebutebu.apiserver.dto.project.request.ProjectUpdateRequestDTO;
 import com.tebutebu.apiserver.dto.project.response.ProjectGithubUrlDTO;
 import com.tebutebu.apiserver.dto.project.response.ProjectPageResponseDTO;
 import com.tebutebu.apiserver.dto.project.response.ProjectResponseDTO;
-import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotResponseDTO;
 import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
 import com.tebutebu.apiserver.dto.tag.request.TagCreateRequestDTO;
 import com.tebutebu.apiserver.dto.tag.response.TagResponseDTO;
@@ -21,17 +20,21 @@ import com.tebutebu.apiserver.pagination.dto.request.ContextCursorPageRequestDTO
 import com.tebutebu.apiserver.pagination.dto.request.CursorTimePageRequestDTO;
 import com.tebutebu.apiserver.pagination.dto.response.CursorPageResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.CursorMetaDTO;
+import com.tebutebu.apiserver.pagination.dto.response.meta.RankCursorMetaDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.TimeCursorMetaDTO;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
-import com.tebutebu.apiserver.repository.CommentRepository;
 import com.tebutebu.apiserver.repository.ProjectRepository;
 import com.tebutebu.apiserver.repository.SubscriptionRepository;
 import com.tebutebu.apiserver.repository.paging.project.ProjectPagingRepository;
 import com.tebutebu.apiserver.service.tag.TagService;
 import com.tebutebu.apiserver.service.ai.badge.AiBadgeImageRequestService;
 import com.tebutebu.apiserver.service.ai.comment.AiCommentRequestService;
+import com.tebutebu.apiserver.service.project.detail.ProjectDetailCache;
 import com.tebutebu.apiserver.service.project.image.ProjectImageService;
+import com.tebutebu.apiserver.service.project.ranking.ProjectRankingLeaderboardService;
 import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotService;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounts;
+import com.tebutebu.apiserver.service.team.counter.TeamPumatiCounterService;
 import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
 import com.tebutebu.apiserver.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -39,9 +42,12 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Log4j2
@@ -52,8 +58,6 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectPagingRepository projectPagingRepository;
 
-    private final CommentRepository commentRepository;
-
     private final ProjectImageService projectImageService;
 
     private final SubscriptionRepository subscriptionRepository;
@@ -62,18 +66,33 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRankingSnapshotService projectRankingSnapshotService;
 
+    private final ProjectRankingLeaderboardService projectRankingLeaderboardService;
+
+    private final TeamPumatiCounterService teamPumatiCounterService;
+
     private final AiCommentRequestService aiCommentRequestService;
 
     private final AiBadgeImageRequestService aiBadgeImageRequestService;
 
+    private final ProjectDetailCache projectDetailCache;
+
     @Value("${ai.comment.default.type}")
     private String aiCommentDefaultType;
 
     @Override
     public ProjectResponseDTO get(Long id, Long memberId) {
-        Project project = projectRepository.findProjectWithTeamAndImagesById(id)
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.PROJECT_NOT_FOUND));
-        return buildProjectResponseDTO(project, memberId);
+        ProjectResponseDTO cached = projectDetailCache.get(id, this::loadProjectDetail);
+
+        // 캐시에는 적재 시점의 DB 카운트가 들어 있고, Redis 카운터가 있으면 그 값으로 덮어쓴다.
+        PumatiCounts pumatiCounts = teamPumatiCounterService.getCounts(List.of(cached.getTeamId())).get(cached.getTeamId());
+
+        return cached.toBuilder()
+                .teamRank(findTeamRank(id))
+                .givedPumatiCount(pumatiCounts != null ? pumatiCounts.givedPumatiCount() : cached.getGivedPumatiCount())
+                .receivedPumatiCount(pumatiCounts != null ? pumatiCounts.receivedPumatiCount() : cached.getReceivedPumatiCount())
+                .isSubscribed(memberId != null
+                        && subscriptionRepository.existsByMemberIdAndProjectIdAndDeletedAtIsNull(memberId, id))
+                .build();
     }
 
     @Override
@@ -98,8 +117,9 @@ public class ProjectServiceImpl implements ProjectService {
         try {
             CursorPage<ProjectPageResponseDTO> page = projectPagingRepository.findByRankingCursor(dto);
 
-            CursorMetaDTO meta = CursorMetaDTO.builder()
+            RankCursorMetaDTO meta = RankCursorMetaDTO.builder()
                     .nextCursorId(page.nextCursorId())
+                    .nextCursorOffset(page.nextCursorOffset())
                     .hasNext(page.hasNext())
                     .build();
 
@@ -149,12 +169,14 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public List<ProjectGithubUrlDTO> getAllGithubUrls() {
-        return projectRepository.findAll().stream()
-                .map(p -> ProjectGithubUrlDTO.builder()
-                        .projectId(p.getId())
-                        .githubUrl(p.getGithubUrl())
-                        .build())
-                .collect(Collectors.toList());
+        return projectRepository.findAllGithubUrls();
+    }
+
+    @Override
+    public void exportGithubUrls(Consumer<ProjectGithubUrlDTO> sink) {
+        try (Stream<ProjectGithubUrlDTO> rows = projectRepository.streamAllGithubUrls()) {
+            rows.forEach(sink);
+        }
     }
 
     @Override
@@ -182,6 +204,7 @@ public class ProjectServiceImpl implements ProjectService {
         project.changeTagContents(tagContents);
 
         projectRepository.save(project);
+        projectRankingLeaderboardService.invalidate();
 
         ProjectSummaryDTO projectSummaryDTO = ProjectSummaryDTO.builder()
                 .title(project.getTitle())
@@ -248,6 +271,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.changeTagContents(tagContents);
         projectRepository.save(project);
+        projectDetailCache.invalidate(projectId);
     }
 
     @Override
@@ -256,6 +280,22 @@ public class ProjectServiceImpl implements ProjectService {
             throw new BusinessException(BusinessErrorCode.PROJECT_NOT_FOUND);
         }
         projectRepository.deleteById(projectId);
+        projectRankingLeaderboardService.invalidate();
+        projectDetailCache.invalidate(projectId);
+    }
+
+    @Override
+    public void evictDetail(Long projectId) {
+        projectDetailCache.invalidate(projectId);
+    }
+
+    @Override
+    public void recountCommentCounts(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        projectRepository.recountCommentCounts(projectIds);
+        projectIds.forEach(projectDetailCache::invalidate);
     }
 
     @Override
@@ -285,14 +325,41 @@ public class ProjectServiceImpl implements ProjectService {
         return project;
     }
 
+    private ProjectResponseDTO loadProjectDetail(Long id) {
+        Project project = projectRepository.findProjectWithTeamAndImagesById(id)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.PROJECT_NOT_FOUND));
+        return buildCacheableDetail(project);
+    }
+
+    private Integer findTeamRank(Long projectId) {
+        return projectRankingSnapshotService.findLatestRankingItem(projectId)
+                .map(RankingItemDTO::getRank)
+                .orElse(null);
+    }
+
     private ProjectResponseDTO buildProjectResponseDTO(Project project, Long memberId) {
         Long id = project.getId();
 
+        boolean isSubscribed = memberId != null
+                && subscriptionRepository.existsByMemberIdAndProjectIdAndDeletedAtIsNull(memberId, id);
+
+        PumatiCounts pumatiCounts = teamPumatiCounterService.getCounts(project.getTeam());
+
+        return buildCacheableDetail(project).toBuilder()
+                .teamRank(findTeamRank(id))
+                .givedPumatiCount(pumatiCounts.givedPumatiCount())
+                .receivedPumatiCount(pumatiCounts.receivedPumatiCount())
+                .isSubscribed(isSubscribed)
+                .build();
+    }
+
+    // 회원, 순위, 실시간 카운터와 무관한 부분만 만든다. 품앗이 카운트는 팀의 DB 값이다.
+    private ProjectResponseDTO buildCacheableDetail(Project project) {
         Team team = project.getTeam();
 
         List<ProjectImageResponseDTO> images = project.getImages().stream()
                 .map(projectImageService::entityToDTO)
-                .collect(Collectors.toList());
+                .toList();
 
         List<TagResponseDTO> tags = project.getTagContents().stream()
                 .map(contentDto -> TagResponseDTO.builder()
@@ -300,19 +367,9 @@ public class ProjectServiceImpl implements ProjectService {
                         .build())
                 .toList();
 
-        ProjectRankingSnapshotResponseDTO snapshot = projectRankingSnapshotService.getLatestSnapshot();
-        Integer teamRank = snapshot.getData().stream()
-                .filter(item -> id.equals(item.getProjectId()))
-                .findFirst()
-                .map(RankingItemDTO::getRank)
-                .orElse(null);
-
-        long commentCount = commentRepository.findCommentCountMap(List.of(id))
-                .getOrDefault(id, 0L);
-
-        boolean isSubscribed = subscriptionRepository.existsByMemberIdAndProjectIdAndDeletedAtIsNull(memberId, id);
+        PumatiCounts pumatiCounts = new PumatiCounts(team.getGivedPumatiCount(), team.getReceivedPumatiCount());
 
-        return entityToDTO(project, team, images, tags, teamRank, commentCount, isSubscribed);
+        return entityToDTO(project, team, images, tags, null, pumatiCounts, project.getCommentCount(), false);
     }
 
 }
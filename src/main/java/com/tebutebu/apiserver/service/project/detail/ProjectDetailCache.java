@@ -0,0 +1,103 @@
+package com.tebutebu.apiserver.service.project.detail;
+
+import com.tebutebu.apiserver.dto.project.response.ProjectResponseDTO;
+import com.tebutebu.apiserver.global.cache.BoundedLocalCache;
+import com.tebutebu.apiserver.global.transaction.AfterTransaction;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 회원과 무관한 프로젝트 상세 정보(프로젝트, 팀, 이미지, 태그, 댓글 수)를 보관한다.
+ * 순위, 품앗이 수, 구독 여부는 요청마다 덮어쓴다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectDetailCache {
+
+    private final RedissonClient redissonClient;
+
+    @Value("${project.detail.cache.maximum-size:1000}")
+    private int maximumSize;
+
+    @Value("${project.detail.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${project.detail.cache.topic:project:detail:invalidated}")
+    private String invalidatedTopicName;
+
+    private BoundedLocalCache<Long, ProjectResponseDTO> details;
+
+    private RTopic invalidatedTopic;
+
+    // 무효화마다 증가한다. 적재하는 동안 값이 바뀌었으면 읽은 결과를 캐시에 넣지 않는다.
+    private long invalidationVersion;
+
+    @PostConstruct
+    void init() {
+        details = new BoundedLocalCache<>(maximumSize, Duration.ofSeconds(ttlSeconds));
+        invalidatedTopic = redissonClient.getTopic(invalidatedTopicName, StringCodec.INSTANCE);
+        invalidatedTopic.addListener(String.class, (channel, message) -> {
+            try {
+                invalidateLocal(Long.parseLong(message));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed project detail invalidation message: {}", message);
+            }
+        });
+    }
+
+    public ProjectResponseDTO get(Long projectId, Function<Long, ProjectResponseDTO> loader) {
+        ProjectResponseDTO cached = details.get(projectId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = currentVersion();
+        ProjectResponseDTO loaded = loader.apply(projectId);
+        if (loaded != null) {
+            putIfNotInvalidated(projectId, loaded, version);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        invalidateLocal(projectId);
+        // 트랜잭션 중에 미커밋 값으로 다시 적재될 수 있으므로 롤백이어도 끝난 뒤 한 번 더 비운다.
+        AfterTransaction.completion(() -> invalidateLocal(projectId));
+        AfterTransaction.commit(() -> {
+            try {
+                invalidatedTopic.publish(projectId.toString());
+            } catch (Exception e) {
+                log.warn("Failed to publish project detail invalidation for ID={}", projectId, e);
+            }
+        });
+    }
+
+    private synchronized long currentVersion() {
+        return invalidationVersion;
+    }
+
+    private synchronized void putIfNotInvalidated(Long projectId, ProjectResponseDTO value, long version) {
+        if (invalidationVersion == version) {
+            details.put(projectId, value);
+        }
+    }
+
+    private synchronized void invalidateLocal(Long projectId) {
+        invalidationVersion++;
+        details.invalidate(projectId);
+    }
+
+}
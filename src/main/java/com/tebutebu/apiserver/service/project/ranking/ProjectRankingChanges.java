@@ -0,0 +1,17 @@
+package com.tebutebu.apiserver.service.project.ranking;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+
+import java.util.List;
+
+public record ProjectRankingChanges(Long baseSnapshotId, List<RankingItemDTO> items) {
+
+    public static ProjectRankingChanges full() {
+        return new ProjectRankingChanges(null, List.of());
+    }
+
+    public boolean isIncremental() {
+        return baseSnapshotId != null;
+    }
+
+}
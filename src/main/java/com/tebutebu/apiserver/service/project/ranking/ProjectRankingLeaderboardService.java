@@ -0,0 +1,23 @@
+package com.tebutebu.apiserver.service.project.ranking;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface ProjectRankingLeaderboardService {
+
+    List<RankingItemDTO> getRanking();
+
+    void applyDelta(Long teamId, long givedDelta, long receivedDelta);
+
+    void rebuild();
+
+    ProjectRankingChanges drainChanges();
+
+    void markSnapshotBase(Long snapshotId);
+
+    void invalidate();
+
+}
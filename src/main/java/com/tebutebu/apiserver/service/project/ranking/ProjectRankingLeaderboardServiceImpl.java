@@ -0,0 +1,332 @@
+package com.tebutebu.apiserver.service.project.ranking;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingRowDTO;
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+import com.tebutebu.apiserver.global.transaction.AfterTransaction;
+import com.tebutebu.apiserver.repository.ProjectRepository;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounts;
+import com.tebutebu.apiserver.service.team.counter.TeamPumatiCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ProjectRankingLeaderboardServiceImpl implements ProjectRankingLeaderboardService {
+
+    // 리더보드가 없거나 팀에 프로젝트가 없으면 무시한다. (부분 리더보드가 생성되는 것을 방지)
+    private static final RedisScript<Long> APPLY_DELTA_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "local projectId = redis.call('HGET', KEYS[3], ARGV[1]) "
+                    + "if not projectId then return 0 end "
+                    + "if ARGV[2] ~= '0' then redis.call('ZINCRBY', KEYS[1], ARGV[2], projectId) end "
+                    + "if ARGV[3] ~= '0' then redis.call('HINCRBY', KEYS[2], projectId, ARGV[3]) end "
+                    + "redis.call('SADD', KEYS[4], projectId) "
+                    + "return 1",
+            Long.class
+    );
+
+    // 기준 스냅샷 ID와 변경된 프로젝트 목록을 함께 비운다. 실패 시 다음 스냅샷은 전체 재계산된다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_CHANGES_SCRIPT = new DefaultRedisScript<>(
+            "local base = redis.call('GET', KEYS[1]) "
+                    + "local members = redis.call('SMEMBERS', KEYS[2]) "
+                    + "redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "table.insert(members, 1, base or '') "
+                    + "return members",
+            List.class
+    );
+
+    // 재구성한 임시 키를 한 번에 교체해 읽는 쪽이 일부만 바뀐 리더보드를 보지 않도록 한다.
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, 3 do "
+                    + "redis.call('RENAME', KEYS[i], KEYS[i + 3]) "
+                    + "redis.call('PERSIST', KEYS[i + 3]) "
+                    + "end "
+                    + "redis.call('DEL', KEYS[7]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private static final Duration REBUILD_KEY_TTL = Duration.ofMinutes(5);
+
+    private static final Comparator<RankingItemDTO> RANKING_ORDER = Comparator
+            .comparing(RankingItemDTO::getGivedPumatiCount, Comparator.reverseOrder())
+            .thenComparing(RankingItemDTO::getProjectId);
+
+    private final ProjectRepository projectRepository;
+
+    private final TeamPumatiCounterService teamPumatiCounterService;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${ranking.leaderboard.key-prefix:ranking:leaderboard:}")
+    private String leaderboardKeyPrefix;
+
+    private final AtomicReference<CompletableFuture<List<RankingItemDTO>>> inFlightRebuild = new AtomicReference<>();
+
+    @Override
+    public List<RankingItemDTO> getRanking() {
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().reverseRangeWithScores(givedKey(), 0, -1);
+        if (tuples == null || tuples.isEmpty()) {
+            return rebuildOnce();
+        }
+
+        List<Object> projectIds = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            projectIds.add(tuple.getValue());
+        }
+        List<Object> receivedCounts = stringRedisTemplate.opsForHash().multiGet(receivedKey(), projectIds);
+
+        List<RankingItemDTO> items = new ArrayList<>(tuples.size());
+        int index = 0;
+        for (TypedTuple<String> tuple : tuples) {
+            Object received = receivedCounts.get(index++);
+            items.add(RankingItemDTO.builder()
+                    .projectId(Long.parseLong(tuple.getValue()))
+                    .givedPumatiCount(tuple.getScore() == null ? 0L : tuple.getScore().longValue())
+                    .receivedPumatiCount(received == null ? 0L : Long.parseLong(received.toString()))
+                    .build());
+        }
+        return assignRanks(items);
+    }
+
+    @Override
+    public void applyDelta(Long teamId, long givedDelta, long receivedDelta) {
+        if (teamId == null || (givedDelta == 0 && receivedDelta == 0)) {
+            return;
+        }
+        AfterTransaction.commit(() -> {
+            try {
+                stringRedisTemplate.execute(
+                        APPLY_DELTA_SCRIPT,
+                        List.of(givedKey(), receivedKey(), teamProjectKey(), dirtyKey()),
+                        teamId.toString(), Long.toString(givedDelta), Long.toString(receivedDelta)
+                );
+            } catch (Exception e) {
+                log.warn("Failed to apply leaderboard delta for teamId={}. Invalidating leaderboard.", teamId, e);
+                deleteLeaderboard();
+            }
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildOnce();
+    }
+
+    @Override
+    public ProjectRankingChanges drainChanges() {
+        List<?> drained;
+        try {
+            drained = stringRedisTemplate.execute(DRAIN_CHANGES_SCRIPT, List.of(baseKey(), dirtyKey()));
+        } catch (Exception e) {
+            log.warn("Failed to drain ranking changes. Falling back to full ranking.", e);
+            return ProjectRankingChanges.full();
+        }
+        if (drained == null || drained.isEmpty() || drained.getFirst().toString().isEmpty()) {
+            return ProjectRankingChanges.full();
+        }
+
+        Long baseSnapshotId = Long.parseLong(drained.getFirst().toString());
+        List<Object> projectIds = new ArrayList<>(drained.subList(1, drained.size()));
+        if (projectIds.isEmpty()) {
+            return new ProjectRankingChanges(baseSnapshotId, List.of());
+        }
+
+        List<Double> givedCounts = stringRedisTemplate.opsForZSet().score(givedKey(), projectIds.toArray());
+        List<Object> receivedCounts = stringRedisTemplate.opsForHash().multiGet(receivedKey(), projectIds);
+        if (givedCounts == null || givedCounts.size() != projectIds.size()) {
+            return ProjectRankingChanges.full();
+        }
+
+        List<RankingItemDTO> items = new ArrayList<>(projectIds.size());
+        for (int i = 0; i < projectIds.size(); i++) {
+            Double gived = givedCounts.get(i);
+            if (gived == null) {
+                // 리더보드에서 빠진 프로젝트가 있으면 증분 계산을 신뢰할 수 없다.
+                return ProjectRankingChanges.full();
+            }
+            Object received = receivedCounts.get(i);
+            items.add(RankingItemDTO.builder()
+                    .projectId(Long.parseLong(projectIds.get(i).toString()))
+                    .givedPumatiCount(gived.longValue())
+                    .receivedPumatiCount(received == null ? 0L : Long.parseLong(received.toString()))
+                    .build());
+        }
+        return new ProjectRankingChanges(baseSnapshotId, items);
+    }
+
+    @Override
+    public void markSnapshotBase(Long snapshotId) {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(givedKey()))) {
+                stringRedisTemplate.opsForValue().set(baseKey(), snapshotId.toString());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to mark snapshot base ID={}", snapshotId, e);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        AfterTransaction.commit(this::deleteLeaderboard);
+    }
+
+    private void deleteLeaderboard() {
+        try {
+            stringRedisTemplate.delete(List.of(givedKey(), receivedKey(), teamProjectKey(), baseKey(), dirtyKey()));
+        } catch (Exception e) {
+            log.error("Failed to invalidate ranking leaderboard", e);
+        }
+    }
+
+    private List<RankingItemDTO> rebuildOnce() {
+        // 같은 노드에서 빈 리더보드를 동시에 만난 요청은 하나의 재구성 결과를 공유한다.
+        CompletableFuture<List<RankingItemDTO>> flight = new CompletableFuture<>();
+        CompletableFuture<List<RankingItemDTO>> inFlight = inFlightRebuild.compareAndExchange(null, flight);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            List<RankingItemDTO> ranking = List.copyOf(rebuildAndGet());
+            flight.complete(ranking);
+            return ranking;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRebuild.compareAndSet(flight, null);
+        }
+    }
+
+    private List<RankingItemDTO> rebuildAndGet() {
+        List<ProjectRankingRowDTO> rows = projectRepository.findAllRankingRows();
+
+        // 아직 DB에 반영되지 않은 카운터 값을 우선한다.
+        List<Long> teamIds = new ArrayList<>(rows.size());
+        for (ProjectRankingRowDTO row : rows) {
+            teamIds.add(row.getTeamId());
+        }
+        Map<Long, PumatiCounts> liveCounts = teamPumatiCounterService.getCounts(teamIds);
+
+        List<RankingItemDTO> items = new ArrayList<>(rows.size());
+        Map<String, String> teamProjectMap = new HashMap<>(rows.size());
+        for (ProjectRankingRowDTO row : rows) {
+            PumatiCounts live = liveCounts.get(row.getTeamId());
+            if (live == null && row.getGivedPumatiCount() == null) {
+                continue;
+            }
+            items.add(RankingItemDTO.builder()
+                    .projectId(row.getProjectId())
+                    .givedPumatiCount(live != null ? live.givedPumatiCount() : row.getGivedPumatiCount())
+                    .receivedPumatiCount(live != null ? live.receivedPumatiCount() : row.getReceivedPumatiCount())
+                    .build());
+            teamProjectMap.put(row.getTeamId().toString(), row.getProjectId().toString());
+        }
+
+        writeLeaderboard(items, teamProjectMap);
+        return assignRanks(items);
+    }
+
+    private void writeLeaderboard(List<RankingItemDTO> items, Map<String, String> teamProjectMap) {
+        if (items.isEmpty()) {
+            deleteLeaderboard();
+            return;
+        }
+
+        String suffix = ":rebuild:" + UUID.randomUUID();
+        Set<TypedTuple<String>> givedTuples = new HashSet<>(items.size());
+        Map<String, String> receivedMap = new HashMap<>(items.size());
+        for (RankingItemDTO item : items) {
+            String member = item.getProjectId().toString();
+            givedTuples.add(TypedTuple.of(member, item.getGivedPumatiCount().doubleValue()));
+            receivedMap.put(member, String.valueOf(item.getReceivedPumatiCount() == null ? 0L : item.getReceivedPumatiCount()));
+        }
+
+        List<String> rebuildKeys = List.of(givedKey() + suffix, receivedKey() + suffix, teamProjectKey() + suffix);
+        try {
+            stringRedisTemplate.opsForZSet().add(rebuildKeys.get(0), givedTuples);
+            stringRedisTemplate.opsForHash().putAll(rebuildKeys.get(1), receivedMap);
+            stringRedisTemplate.opsForHash().putAll(rebuildKeys.get(2), teamProjectMap);
+            // 교체 전에 실패하면 임시 키가 남지 않도록 만료를 걸어 둔다. (교체 시 PERSIST)
+            rebuildKeys.forEach(key -> stringRedisTemplate.expire(key, REBUILD_KEY_TTL));
+
+            stringRedisTemplate.execute(SWAP_SCRIPT, List.of(
+                    rebuildKeys.get(0), rebuildKeys.get(1), rebuildKeys.get(2),
+                    givedKey(), receivedKey(), teamProjectKey(), baseKey()
+            ));
+            log.info("Ranking leaderboard rebuilt with {} projects", items.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild ranking leaderboard", e);
+            try {
+                stringRedisTemplate.delete(rebuildKeys);
+            } catch (Exception cleanupFailure) {
+                log.warn("Failed to clean up leaderboard rebuild keys", cleanupFailure);
+            }
+        }
+    }
+
+    private List<RankingItemDTO> assignRanks(List<RankingItemDTO> items) {
+        items.sort(RANKING_ORDER);
+        List<RankingItemDTO> ranked = new ArrayList<>(items.size());
+        int rank = 1;
+        for (RankingItemDTO item : items) {
+            ranked.add(RankingItemDTO.builder()
+                    .projectId(item.getProjectId())
+                    .rank(rank++)
+                    .givedPumatiCount(item.getGivedPumatiCount())
+                    .receivedPumatiCount(item.getReceivedPumatiCount())
+                    .build());
+        }
+        return ranked;
+    }
+
+    private String givedKey() {
+        return leaderboardKeyPrefix + "gived";
+    }
+
+    private String receivedKey() {
+        return leaderboardKeyPrefix + "received";
+    }
+
+    private String teamProjectKey() {
+        return leaderboardKeyPrefix + "team-project";
+    }
+
+    private String dirtyKey() {
+        return leaderboardKeyPrefix + "dirty";
+    }
+
+    private String baseKey() {
+        return leaderboardKeyPrefix + "base";
+    }
+
+}
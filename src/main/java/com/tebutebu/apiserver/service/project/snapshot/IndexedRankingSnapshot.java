@@ -0,0 +1,49 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotResponseDTO;
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public record IndexedRankingSnapshot(
+        ProjectRankingSnapshotResponseDTO snapshot,
+        RankingSnapshotData data,
+        ProjectPositionIndex positions
+) {
+
+    public static IndexedRankingSnapshot of(Long id, LocalDateTime requestedAt, RankingSnapshotData data) {
+        ProjectRankingSnapshotResponseDTO snapshot = ProjectRankingSnapshotResponseDTO.builder()
+                .id(id)
+                .data(data.asItems())
+                .requestedAt(requestedAt)
+                .build();
+        return new IndexedRankingSnapshot(snapshot, data, ProjectPositionIndex.of(data));
+    }
+
+    public List<RankingItemDTO> items() {
+        return snapshot.getData();
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public int positionOf(Long projectId) {
+        return positions.positionOf(projectId);
+    }
+
+    public Optional<RankingItemDTO> find(Long projectId) {
+        int position = positions.positionOf(projectId);
+        if (position == ProjectPositionIndex.NOT_FOUND) {
+            return Optional.empty();
+        }
+        return Optional.of(data.itemAt(position));
+    }
+
+    public RankingSnapshotData withChanges(List<RankingItemDTO> changes) {
+        return data.merge(changes, positions);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+public final class ProjectPositionIndex {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final long EMPTY = 0L;
+
+    private final long[] keys;
+
+    private final int[] positions;
+
+    private final int mask;
+
+    private ProjectPositionIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static ProjectPositionIndex of(RankingSnapshotData data) {
+        ProjectPositionIndex index = new ProjectPositionIndex(data.size());
+        for (int i = 0; i < data.size(); i++) {
+            long projectId = data.projectIdAt(i);
+            if (projectId > 0) {
+                index.put(projectId, i);
+            }
+        }
+        return index;
+    }
+
+    public int positionOf(Long projectId) {
+        if (projectId == null || projectId <= 0) {
+            return NOT_FOUND;
+        }
+        long key = projectId;
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private void put(long key, int position) {
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        positions[slot] = position;
+    }
+
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import com.tebutebu.apiserver.domain.ProjectRankingSnapshot;
+import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotResponseDTO;
+import com.tebutebu.apiserver.global.cache.BoundedLocalCache;
+import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
+import com.tebutebu.apiserver.global.exception.BusinessException;
+import com.tebutebu.apiserver.repository.ProjectRankingSnapshotRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectRankingSnapshotCache {
+
+    private final ProjectRankingSnapshotRepository projectRankingSnapshotRepository;
+
+    private final RankingSnapshotDecoder rankingSnapshotDecoder;
+
+    private final RedisTemplate<String, byte[]> snapshotBinaryRedisTemplate;
+
+    private final RedissonClient redissonClient;
+
+    @Value("${ranking.snapshot.cache.key-prefix}")
+    private String snapshotCacheKeyPrefix;
+
+    @Value("${ranking.snapshot.duration.minutes:5}")
+    private long snapshotDurationMinutes;
+
+    @Value("${ranking.snapshot.near-cache.maximum-size:32}")
+    private int nearCacheMaximumSize;
+
+    @Value("${ranking.snapshot.near-cache.ttl-minutes:30}")
+    private long nearCacheTtlMinutes;
+
+    @Value("${ranking.snapshot.near-cache.latest-ttl-seconds:30}")
+    private long latestIdTtlSeconds;
+
+    @Value("${ranking.snapshot.near-cache.topic:ranking:snapshot:registered}")
+    private String registeredTopicName;
+
+    private BoundedLocalCache<Long, IndexedRankingSnapshot> snapshots;
+
+    private RTopic registeredTopic;
+
+    private volatile LatestSnapshotId latestSnapshotId;
+
+    @PostConstruct
+    void init() {
+        snapshots = new BoundedLocalCache<>(nearCacheMaximumSize, Duration.ofMinutes(nearCacheTtlMinutes));
+        registeredTopic = redissonClient.getTopic(registeredTopicName, StringCodec.INSTANCE);
+        registeredTopic.addListener(String.class, (channel, message) -> {
+            try {
+                updateLatestSnapshotId(Long.parseLong(message));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed snapshot registration message: {}", message);
+            }
+        });
+    }
+
+    public ProjectRankingSnapshotResponseDTO get(Long snapshotId) {
+        return getIndexed(snapshotId).snapshot();
+    }
+
+    public IndexedRankingSnapshot getIndexed(Long snapshotId) {
+        return snapshots.get(snapshotId, this::load);
+    }
+
+    public Long getLatestSnapshotId() {
+        return findLatestSnapshotId()
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.SNAPSHOT_NOT_FOUND));
+    }
+
+    public Optional<Long> findLatestSnapshotId() {
+        LatestSnapshotId latest = latestSnapshotId;
+        if (latest != null && !latest.isExpired(System.nanoTime())) {
+            return Optional.of(latest.id());
+        }
+
+        Optional<Long> id = projectRankingSnapshotRepository.findTopByOrderByRequestedAtDesc()
+                .map(ProjectRankingSnapshot::getId);
+        id.ifPresent(found -> latestSnapshotId =
+                new LatestSnapshotId(found, System.nanoTime() + Duration.ofSeconds(latestIdTtlSeconds).toNanos()));
+        return id;
+    }
+
+    public void registered(IndexedRankingSnapshot snapshot) {
+        Long id = snapshot.snapshot().getId();
+        snapshots.put(id, snapshot);
+        updateLatestSnapshotId(id);
+        try {
+            registeredTopic.publish(id.toString());
+        } catch (Exception e) {
+            log.warn("Failed to publish snapshot registration for ID={}", id, e);
+        }
+    }
+
+    private void updateLatestSnapshotId(Long id) {
+        LatestSnapshotId current = latestSnapshotId;
+        if (current != null && !current.isExpired(System.nanoTime()) && current.id() > id) {
+            return;
+        }
+        latestSnapshotId = new LatestSnapshotId(id, System.nanoTime() + Duration.ofSeconds(latestIdTtlSeconds).toNanos());
+    }
+
+    private IndexedRankingSnapshot load(Long snapshotId) {
+        String cacheKey = snapshotCacheKeyPrefix + snapshotId;
+        try {
+            byte[] cached = snapshotBinaryRedisTemplate.opsForValue().get(cacheKey);
+            // 요청 시각이 없는 이전 포맷은 DB에서 다시 읽어 응답이 캐시 여부와 무관하게 같도록 한다.
+            LocalDateTime requestedAt = RankingSnapshotCodec.isEncoded(cached)
+                    ? RankingSnapshotCodec.decodeRequestedAt(cached)
+                    : null;
+            if (requestedAt != null) {
+                return IndexedRankingSnapshot.of(snapshotId, requestedAt, RankingSnapshotCodec.decode(cached));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to decode cached snapshot for ID={} from Redis. Fallback to DB.", snapshotId, e);
+        }
+
+        ProjectRankingSnapshot snapshot = projectRankingSnapshotRepository.findById(snapshotId)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.SNAPSHOT_NOT_FOUND));
+
+        RankingSnapshotData data = rankingSnapshotDecoder.decode(snapshot);
+        try {
+            snapshotBinaryRedisTemplate.opsForValue().set(cacheKey,
+                    RankingSnapshotCodec.encode(data, snapshot.getRequestedAt()), Duration.ofMinutes(snapshotDurationMinutes));
+        } catch (Exception e) {
+            log.warn("Failed to cache snapshot ID={} into Redis", snapshotId, e);
+        }
+        return IndexedRankingSnapshot.of(snapshot.getId(), snapshot.getRequestedAt(), data);
+    }
+
+    private record LatestSnapshotId(Long id, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+    }
+
+}
@@ -1,32 +1,42 @@
 package com.tebutebu.apiserver.service.project.snapshot;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tebutebu.apiserver.domain.Project;
+import com.tebutebu.apiserver.domain.ProjectRankingDailySnapshot;
 import com.tebutebu.apiserver.domain.ProjectRankingSnapshot;
 import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotResponseDTO;
 import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
 import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
 import com.tebutebu.apiserver.global.exception.BusinessException;
+import com.tebutebu.apiserver.global.transaction.AfterTransaction;
+import com.tebutebu.apiserver.repository.ProjectRankingDailySnapshotRepository;
 import com.tebutebu.apiserver.repository.ProjectRankingSnapshotRepository;
 import com.tebutebu.apiserver.repository.ProjectRepository;
+import com.tebutebu.apiserver.service.project.ranking.ProjectRankingChanges;
+import com.tebutebu.apiserver.service.project.ranking.ProjectRankingLeaderboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Log4j2
@@ -35,18 +45,24 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
 
     private final ProjectRankingSnapshotRepository projectRankingSnapshotRepository;
 
+    private final ProjectRankingDailySnapshotRepository projectRankingDailySnapshotRepository;
+
     private final ProjectRepository projectRepository;
 
-    private final ObjectMapper objectMapper;
+    private final ProjectRankingLeaderboardService projectRankingLeaderboardService;
 
-    private final RedisTemplate<String, ProjectRankingSnapshotResponseDTO> snapshotRedisTemplate;
+    private final RedisTemplate<String, byte[]> snapshotBinaryRedisTemplate;
 
-    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     private final RedisTemplate<String, Boolean> booleanRedisTemplate;
 
     private final RedissonClient redissonClient;
 
+    private final ProjectRankingSnapshotCache projectRankingSnapshotCache;
+
+    private final RankingSnapshotDecoder rankingSnapshotDecoder;
+
     @Value("${ranking.snapshot.duration.minutes:5}")
     private long snapshotDurationMinutes;
 
@@ -65,6 +81,14 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
     @Value("${ranking.snapshot.cache.generating-ttl-seconds:60}")
     private long snapshotGeneratingTtlSeconds;
 
+    @Value("${ranking.snapshot.refresh-ahead-seconds:30}")
+    private long snapshotRefreshAheadSeconds;
+
+    @Value("${ranking.snapshot.single-flight.timeout-seconds:30}")
+    private long singleFlightTimeoutSeconds;
+
+    private final AtomicReference<CompletableFuture<Long>> inFlightRegistration = new AtomicReference<>();
+
     @Override
     public Long register() {
         Long cachedId = getSnapshotIdFromCache();
@@ -75,11 +99,104 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
             return cachedId;
         }
 
-        Long fallback = getFallbackSnapshotId();
-        if (fallback != null) {
-            return fallback;
+        // 스냅샷 생성은 갱신 스케줄러가 담당하므로 만료 직후에도 가장 최근 스냅샷을 그대로 돌려준다.
+        Optional<Long> latestId = projectRankingSnapshotCache.findLatestSnapshotId();
+        if (latestId.isPresent()) {
+            return latestId.get();
+        }
+
+        // 스냅샷이 하나도 없는 콜드 스타트에서만 요청 경로에서 생성한다.
+        // 같은 노드의 동시 요청은 하나의 등록 작업을 공유한다. (분산 락은 리더 요청만 잡는다)
+        CompletableFuture<Long> flight = new CompletableFuture<>();
+        CompletableFuture<Long> inFlight = inFlightRegistration.compareAndExchange(null, flight);
+        if (inFlight != null) {
+            return awaitRegistration(inFlight);
+        }
+
+        try {
+            Long registeredId = registerWithLock();
+            publishRegistration(flight, registeredId);
+            return registeredId;
+        } catch (RuntimeException e) {
+            inFlightRegistration.compareAndSet(flight, null);
+            flight.completeExceptionally(e);
+            throw e;
         }
+    }
 
+    @Override
+    public void refreshAhead() {
+        RLock lock = redissonClient.getLock(registerLockKey);
+        boolean isLocked = false;
+        try {
+            // 다른 노드가 갱신 중이면 이번 주기는 건너뛴다.
+            isLocked = lock.tryLock(0, 60, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+
+            String latestKey = snapshotCacheKeyPrefix + snapshotCacheKeyLatestSuffix;
+            Long ttlSeconds = stringRedisTemplate.getExpire(latestKey, TimeUnit.SECONDS);
+            boolean expiring = ttlSeconds == null || (ttlSeconds != -1 && ttlSeconds <= snapshotRefreshAheadSeconds);
+            if (!expiring && !hasProjectCreatedSinceLatest()) {
+                return;
+            }
+
+            Long createdId = createAndSaveSnapshot();
+            log.info("Refreshed ranking snapshot ahead of expiry. ID={}", createdId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCode.SNAPSHOT_LOCK_INTERRUPTED, e);
+        } finally {
+            if (isLocked) {
+                unlockAfterCompletion(lock);
+            }
+        }
+    }
+
+    private boolean hasProjectCreatedSinceLatest() {
+        return projectRankingSnapshotRepository.findLatestRequestedAt()
+                .map(projectRepository::existsByCreatedAtAfter)
+                .orElse(true);
+    }
+
+    private Long awaitRegistration(CompletableFuture<Long> inFlight) {
+        try {
+            return inFlight.get(singleFlightTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(BusinessErrorCode.SNAPSHOT_LOCK_UNAVAILABLE, e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(BusinessErrorCode.SNAPSHOT_LOCK_UNAVAILABLE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BusinessErrorCode.SNAPSHOT_LOCK_INTERRUPTED, e);
+        }
+    }
+
+    private void publishRegistration(CompletableFuture<Long> flight, Long registeredId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlightRegistration.compareAndSet(flight, null);
+            flight.complete(registeredId);
+            return;
+        }
+        // 커밋 전에 대기 중인 요청에 ID를 넘기면 아직 보이지 않는 스냅샷을 조회할 수 있다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                inFlightRegistration.compareAndSet(flight, null);
+                if (status == STATUS_COMMITTED) {
+                    flight.complete(registeredId);
+                } else {
+                    flight.completeExceptionally(new BusinessException(BusinessErrorCode.SNAPSHOT_LOCK_UNAVAILABLE));
+                }
+            }
+        });
+    }
+
+    private Long registerWithLock() {
         RLock lock = redissonClient.getLock(registerLockKey);
         boolean isLocked = false;
         boolean success = false;
@@ -90,14 +207,11 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
                 throw new BusinessException(BusinessErrorCode.SNAPSHOT_LOCK_UNAVAILABLE);
             }
 
-            Long secondCachedId = getSnapshotIdFromCache();
-            if (secondCachedId != null) {
-                return secondCachedId;
-            }
-
-            Long secondFallback = getFallbackSnapshotId();
-            if (secondFallback != null) {
-                return secondFallback;
+            // 락을 기다리는 동안 다른 노드가 첫 스냅샷을 만들었을 수 있다.
+            Optional<Long> existingId = projectRankingSnapshotRepository.findTopByOrderByRequestedAtDesc()
+                    .map(ProjectRankingSnapshot::getId);
+            if (existingId.isPresent()) {
+                return existingId.get();
             }
 
             ensureNotGenerating();
@@ -111,18 +225,29 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
             throw new RuntimeException("lockInterrupted", e);
         } finally {
             if (success) {
-                try {
-                    booleanRedisTemplate.delete(snapshotGeneratingKey);
-                } catch (Exception e) {
-                    log.warn("Failed to delete snapshotGeneratingKey", e);
-                }
+                AfterTransaction.commit(() -> {
+                    try {
+                        booleanRedisTemplate.delete(snapshotGeneratingKey);
+                    } catch (Exception e) {
+                        log.warn("Failed to delete snapshotGeneratingKey", e);
+                    }
+                });
             }
-            if (isLocked && lock.isHeldByCurrentThread()) {
-                lock.unlock();
+            if (isLocked) {
+                unlockAfterCompletion(lock);
             }
         }
     }
 
+    // 커밋 전에 락을 놓으면 다른 노드가 아직 보이지 않는 스냅샷을 기준으로 다시 생성할 수 있다.
+    private void unlockAfterCompletion(RLock lock) {
+        AfterTransaction.completion(() -> {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        });
+    }
+
     private boolean tryAcquireLock(RLock lock) throws InterruptedException {
         long waitTime = 15, leaseTime = 60;
         boolean isLocked = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
@@ -144,34 +269,6 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
         return null;
     }
 
-    private Long getFallbackSnapshotId() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime threshold = now.minusMinutes(snapshotDurationMinutes);
-
-        ProjectRankingSnapshot snapshot = projectRankingSnapshotRepository
-                .findTopByOrderByRequestedAtDesc()
-                .orElse(null);
-
-        if (snapshot == null) {
-            return null;
-        }
-
-        boolean noNewProject = !projectRepository.existsByCreatedAtAfter(snapshot.getRequestedAt());
-        boolean isValid = snapshot.getRequestedAt().isAfter(threshold);
-
-        if (noNewProject && isValid) {
-            long ttl = Duration.between(now, snapshot.getRequestedAt().plusMinutes(snapshotDurationMinutes)).toMinutes();
-            if (ttl > 0) {
-                String cacheKey = snapshotCacheKeyPrefix + snapshotCacheKeyLatestSuffix;
-                stringRedisTemplate.opsForValue().set(cacheKey, snapshot.getId().toString(), Duration.ofMinutes(ttl));
-            }
-            log.info("Reusing DB fallback snapshot with ID={}", snapshot.getId());
-            return snapshot.getId();
-        }
-
-        return null;
-    }
-
     private void ensureNotGenerating() {
         Boolean isGenerating = booleanRedisTemplate.opsForValue()
                 .setIfAbsent(snapshotGeneratingKey, true, Duration.ofSeconds(snapshotGeneratingTtlSeconds));
@@ -183,110 +280,120 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
 
     @Override
     public ProjectRankingSnapshotResponseDTO getLatestSnapshot() {
-        ProjectRankingSnapshot snapshot = projectRankingSnapshotRepository
-                .findTopByOrderByRequestedAtDesc()
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.SNAPSHOT_NOT_FOUND));
-
-        String cacheKey = snapshotCacheKeyPrefix + snapshot.getId();
-        try {
-            ProjectRankingSnapshotResponseDTO cached = snapshotRedisTemplate.opsForValue().get(cacheKey);
-            if (cached != null) {
-                return objectMapper.convertValue(cached, ProjectRankingSnapshotResponseDTO.class); // 안전하게 변환
-            }
-        } catch (Exception e) {
-            log.warn("Failed to deserialize cached snapshot for ID={} from Redis. Fallback to DB.", snapshot.getId(), e);
-        }
+        return projectRankingSnapshotCache.get(projectRankingSnapshotCache.getLatestSnapshotId());
+    }
 
-        ProjectRankingSnapshotResponseDTO projectRankingSnapshotResponseDTO = entityToDTO(snapshot);
-        snapshotRedisTemplate.opsForValue().set(cacheKey, projectRankingSnapshotResponseDTO, Duration.ofMinutes(snapshotDurationMinutes));
-        return projectRankingSnapshotResponseDTO;
+    @Override
+    public Optional<RankingItemDTO> findLatestRankingItem(Long projectId) {
+        return projectRankingSnapshotCache.getIndexed(projectRankingSnapshotCache.getLatestSnapshotId())
+                .find(projectId);
     }
 
     @Override
     public List<ProjectRankingSnapshotResponseDTO> getSnapshotsForLast7Days() {
         LocalDate startDate = LocalDate.now()
-                .with(java.time.DayOfWeek.MONDAY)
+                .with(DayOfWeek.MONDAY)
                 .minusWeeks(1); // 지난주 월요일
 
         LocalDate endDate = startDate.plusDays(6); // 지난주 일요일
 
-        List<ProjectRankingSnapshot> allSnapshots = projectRankingSnapshotRepository
-                .findAllByRequestedAtBetween(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
-
-        Map<LocalDate, ProjectRankingSnapshot> latestPerDate = new HashMap<>();
-        allSnapshots.stream()
-                .sorted(Comparator.comparing(ProjectRankingSnapshot::getRequestedAt).reversed())
-                .forEach(snapshot -> {
-                    LocalDate date = snapshot.getRequestedAt().toLocalDate();
-                    latestPerDate.putIfAbsent(date, snapshot);
-                });
-
-        List<ProjectRankingSnapshotResponseDTO> result = new ArrayList<>();
-        ProjectRankingSnapshot lastKnownSnapshot = null;
+        Map<LocalDate, ProjectRankingDailySnapshot> dailySnapshots = new HashMap<>();
+        projectRankingDailySnapshotRepository.findAllBySnapshotDateBetween(startDate, endDate)
+                .forEach(daily -> dailySnapshots.put(daily.getSnapshotDate(), daily));
 
+        List<ProjectRankingSnapshotResponseDTO> result = new ArrayList<>(7);
         for (int i = 0; i < 7; i++) {
             LocalDate date = startDate.plusDays(i);
-            ProjectRankingSnapshot snapshot = latestPerDate.get(date);
+            ProjectRankingDailySnapshot daily = dailySnapshots.get(date);
+            if (daily == null) {
+                // 롤업이 누락된 날은 원본 스냅샷에서 계산한다. (저장은 스케줄러가 담당)
+                log.warn("No daily ranking rollup for {}, computing from raw snapshots", date);
+                daily = buildDailySnapshot(date).orElse(null);
+            }
+            result.add(daily != null ? dailyToDTO(daily) : null);
+        }
 
-            if (snapshot == null && i == 0) {
-                snapshot = projectRankingSnapshotRepository
-                        .findTopByRequestedAtBeforeOrderByRequestedAtDesc(date.atStartOfDay())
-                        .orElse(null);
+        return result;
+    }
 
-                if (snapshot != null) {
-                    log.warn("No snapshot for first day ({}), fallback to closest previous: {}",
-                            date, snapshot.getRequestedAt());
-                }
+    @Override
+    public void rollupDailySnapshots(LocalDate lastDate, int days) {
+        for (int i = 0; i < days; i++) {
+            LocalDate date = lastDate.minusDays(i);
+            if (projectRankingDailySnapshotRepository.existsBySnapshotDate(date)) {
+                continue;
             }
+            buildDailySnapshot(date).ifPresent(daily -> {
+                projectRankingDailySnapshotRepository.save(daily);
+                log.info("Rolled up daily ranking for {} from snapshot ID={}", date, daily.getSourceSnapshotId());
+            });
+        }
+    }
 
-            if (snapshot == null) {
-                snapshot = lastKnownSnapshot;
-            }
+    @Override
+    public ProjectRankingSnapshotResponseDTO entityToDTO(ProjectRankingSnapshot snapshot) {
+        return ProjectRankingSnapshotResponseDTO.builder()
+                .id(snapshot.getId())
+                .data(rankingSnapshotDecoder.decode(snapshot).asItems())
+                .requestedAt(snapshot.getRequestedAt())
+                .build();
+    }
 
-            lastKnownSnapshot = snapshot;
-            result.add(snapshot != null ? entityToDTO(snapshot) : null);
+    private Optional<ProjectRankingDailySnapshot> buildDailySnapshot(LocalDate date) {
+        return projectRankingSnapshotRepository
+                .findTopByRequestedAtBeforeOrderByRequestedAtDesc(date.plusDays(1).atStartOfDay())
+                .map(snapshot -> ProjectRankingDailySnapshot.builder()
+                        .snapshotDate(date)
+                        .sourceSnapshotId(snapshot.getId())
+                        .sourceRequestedAt(snapshot.getRequestedAt())
+                        .rankingBlob(encode(snapshot))
+                        .build());
+    }
+
+    private byte[] encode(ProjectRankingSnapshot snapshot) {
+        if (RankingSnapshotCodec.isEncoded(snapshot.getRankingBlob())) {
+            return snapshot.getRankingBlob();
         }
+        return RankingSnapshotCodec.encode(rankingSnapshotDecoder.decode(snapshot));
+    }
 
-        return result;
+    private ProjectRankingSnapshotResponseDTO dailyToDTO(ProjectRankingDailySnapshot daily) {
+        return ProjectRankingSnapshotResponseDTO.builder()
+                .id(daily.getSourceSnapshotId())
+                .data(RankingSnapshotCodec.decode(daily.getRankingBlob()).asItems())
+                .requestedAt(daily.getSourceRequestedAt())
+                .build();
     }
 
     private Long createAndSaveSnapshot() {
-        List<RankingItemDTO> ranking = generateRanking();
-        String json = serializeToJson(ranking);
-        ProjectRankingSnapshot saved = persistSnapshot(json);
-        cacheSnapshot(saved, ranking);
+        RankingSnapshotData data = generateRanking();
+        ProjectRankingSnapshot saved = persistSnapshot(RankingSnapshotCodec.encode(data));
+        // 롤백되면 존재하지 않는 스냅샷을 가리키게 되므로 latest:id, 노드 전파, 기준 스냅샷 기록은 커밋 후에 한다.
+        AfterTransaction.commit(() -> {
+            cacheSnapshot(saved, data);
+            projectRankingLeaderboardService.markSnapshotBase(saved.getId());
+        });
         return saved.getId();
     }
 
-    private List<RankingItemDTO> generateRanking() {
-        List<Project> projects = projectRepository.findAllForRanking();
-        List<RankingItemDTO> rankingList = new ArrayList<>();
-        int rank = 1;
-        for (Project p : projects) {
-            if (p.getId() == null || p.getTeam() == null || p.getTeam().getGivedPumatiCount() == null) {
-                continue;
+    private RankingSnapshotData generateRanking() {
+        ProjectRankingChanges changes = projectRankingLeaderboardService.drainChanges();
+        if (changes.isIncremental()) {
+            try {
+                IndexedRankingSnapshot previous = projectRankingSnapshotCache.getIndexed(changes.baseSnapshotId());
+                log.info("Building snapshot incrementally from ID={} with {} changed projects",
+                        changes.baseSnapshotId(), changes.items().size());
+                return previous.withChanges(changes.items());
+            } catch (Exception e) {
+                log.warn("Failed to load base snapshot ID={}. Falling back to full ranking.", changes.baseSnapshotId(), e);
             }
-            rankingList.add(RankingItemDTO.builder()
-                    .projectId(p.getId())
-                    .rank(rank++)
-                    .givedPumatiCount(p.getTeam().getGivedPumatiCount())
-                    .receivedPumatiCount(p.getTeam().getReceivedPumatiCount())
-                    .build());
         }
-        return rankingList;
+        return RankingSnapshotData.from(projectRankingLeaderboardService.getRanking());
     }
 
-    private String serializeToJson(List<RankingItemDTO> ranking) {
-        try {
-            return objectMapper.writeValueAsString(Map.of("projects", ranking));
-        } catch (JsonProcessingException e) {
-            throw new BusinessException(BusinessErrorCode.SNAPSHOT_SERIALIZATION_FAILED, e);
-        }
-    }
-
-    private ProjectRankingSnapshot persistSnapshot(String json) {
+    private ProjectRankingSnapshot persistSnapshot(byte[] encoded) {
         ProjectRankingSnapshot newSnap = ProjectRankingSnapshot.builder()
-                .rankingData(json)
+                .rankingBlob(encoded)
                 .requestedAt(LocalDateTime.now())
                 .build();
         ProjectRankingSnapshot saved = projectRankingSnapshotRepository.save(newSnap);
@@ -294,19 +401,18 @@ public class ProjectRankingSnapshotServiceImpl implements ProjectRankingSnapshot
         return saved;
     }
 
-    private void cacheSnapshot(ProjectRankingSnapshot snapshot, List<RankingItemDTO> ranking) {
-        ProjectRankingSnapshotResponseDTO dto = ProjectRankingSnapshotResponseDTO.builder()
-                .id(snapshot.getId())
-                .data(ranking)
-                .build();
+    private void cacheSnapshot(ProjectRankingSnapshot snapshot, RankingSnapshotData data) {
         String idKey = snapshotCacheKeyPrefix + snapshot.getId();
         String latestKey = snapshotCacheKeyPrefix + snapshotCacheKeyLatestSuffix;
         try {
-            snapshotRedisTemplate.opsForValue().set(idKey, dto, Duration.ofMinutes(snapshotDurationMinutes));
+            snapshotBinaryRedisTemplate.opsForValue().set(idKey,
+                    RankingSnapshotCodec.encode(data, snapshot.getRequestedAt()), Duration.ofMinutes(snapshotDurationMinutes));
             stringRedisTemplate.opsForValue().set(latestKey, snapshot.getId().toString(), Duration.ofMinutes(snapshotDurationMinutes));
         } catch (Exception e) {
             log.error("Failed to cache snapshot ID={} into Redis", snapshot.getId(), e);
         }
+        projectRankingSnapshotCache.registered(
+                IndexedRankingSnapshot.of(snapshot.getId(), snapshot.getRequestedAt(), data));
     }
 
 }
@@ -0,0 +1,217 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 랭킹 스냅샷 바이너리 포맷
+ * v1: [magic][version][count] 이후 projectId, rank, gived, received 를 컬럼 단위로 저장한다.
+ * v2: [magic][version][requestedAt(epochSecond, nano)][count] 이후는 v1 과 같다. (Redis 캐시용)
+ * 각 컬럼은 직전 값과의 차이를 zigzag varint 로 인코딩한다.
+ */
+public final class RankingSnapshotCodec {
+
+    public static final byte FORMAT_V1 = 1;
+
+    public static final byte FORMAT_V2 = 2;
+
+    private static final byte MAGIC = (byte) 0xA7;
+
+    private static final int HEADER_SIZE = 2;
+
+    private RankingSnapshotCodec() {}
+
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC;
+    }
+
+    public static byte[] encode(RankingSnapshotData data) {
+        Writer writer = new Writer(HEADER_SIZE + 5 + data.size() * 8);
+        writer.writeByte(MAGIC);
+        writer.writeByte(FORMAT_V1);
+        writeColumns(writer, data);
+        return writer.toByteArray();
+    }
+
+    public static byte[] encode(RankingSnapshotData data, LocalDateTime requestedAt) {
+        Writer writer = new Writer(HEADER_SIZE + 20 + data.size() * 8);
+        writer.writeByte(MAGIC);
+        writer.writeByte(FORMAT_V2);
+        writer.writeZigZag(requestedAt.toEpochSecond(ZoneOffset.UTC));
+        writer.writeVarLong(requestedAt.getNano());
+        writeColumns(writer, data);
+        return writer.toByteArray();
+    }
+
+    /**
+     * v2 에 기록된 요청 시각을 반환한다. v1 은 시각을 담지 않으므로 null 이다.
+     */
+    public static LocalDateTime decodeRequestedAt(byte[] bytes) {
+        if (readVersion(bytes) != FORMAT_V2) {
+            return null;
+        }
+        return readRequestedAt(new Reader(bytes, HEADER_SIZE));
+    }
+
+    public static RankingSnapshotData decode(byte[] bytes) {
+        byte version = readVersion(bytes);
+        Reader reader = new Reader(bytes, HEADER_SIZE);
+        if (version == FORMAT_V2) {
+            readRequestedAt(reader);
+        }
+
+        long count = reader.readVarLong();
+        if (count < 0 || count > bytes.length) {
+            throw new IllegalArgumentException("Invalid ranking snapshot size: " + count);
+        }
+        int size = (int) count;
+
+        long[] projectIds = new long[size];
+        int[] ranks = new int[size];
+        long[] gived = new long[size];
+        long[] received = new long[size];
+
+        long prev = 0;
+        for (int i = 0; i < size; i++) {
+            prev += reader.readZigZag();
+            projectIds[i] = prev;
+        }
+        prev = 0;
+        for (int i = 0; i < size; i++) {
+            prev += reader.readZigZag();
+            ranks[i] = Math.toIntExact(prev);
+        }
+        prev = 0;
+        for (int i = 0; i < size; i++) {
+            prev += reader.readZigZag();
+            gived[i] = prev;
+        }
+        prev = 0;
+        for (int i = 0; i < size; i++) {
+            prev += reader.readZigZag();
+            received[i] = prev;
+        }
+        return new RankingSnapshotData(projectIds, ranks, gived, received);
+    }
+
+    private static byte readVersion(byte[] bytes) {
+        if (!isEncoded(bytes)) {
+            throw new IllegalArgumentException("Not an encoded ranking snapshot");
+        }
+        if (bytes[1] != FORMAT_V1 && bytes[1] != FORMAT_V2) {
+            throw new IllegalArgumentException("Unsupported ranking snapshot format version: " + bytes[1]);
+        }
+        return bytes[1];
+    }
+
+    private static LocalDateTime readRequestedAt(Reader reader) {
+        long epochSecond = reader.readZigZag();
+        int nano = Math.toIntExact(reader.readVarLong());
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static void writeColumns(Writer writer, RankingSnapshotData data) {
+        int size = data.size();
+        writer.writeVarLong(size);
+
+        long prev = 0;
+        for (int i = 0; i < size; i++) {
+            long value = data.projectIdAt(i);
+            writer.writeZigZag(value - prev);
+            prev = value;
+        }
+        prev = 0;
+        for (int i = 0; i < size; i++) {
+            long value = data.rankAt(i);
+            writer.writeZigZag(value - prev);
+            prev = value;
+        }
+        prev = 0;
+        for (int i = 0; i < size; i++) {
+            long value = data.givedPumatiCountAt(i);
+            writer.writeZigZag(value - prev);
+            prev = value;
+        }
+        prev = 0;
+        for (int i = 0; i < size; i++) {
+            long value = data.receivedPumatiCountAt(i);
+            writer.writeZigZag(value - prev);
+            prev = value;
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void writeByte(byte b) {
+            ensureCapacity(1);
+            buffer[position++] = b;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+
+        private int position;
+
+        Reader(byte[] buffer, int offset) {
+            this.buffer = buffer;
+            this.position = offset;
+        }
+
+        long readZigZag() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= buffer.length) {
+                    throw new IllegalArgumentException("Truncated ranking snapshot");
+                }
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in ranking snapshot");
+        }
+
+    }
+
+}
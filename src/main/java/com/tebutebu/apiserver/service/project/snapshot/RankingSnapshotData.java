@@ -0,0 +1,145 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+public final class RankingSnapshotData {
+
+    private final long[] projectIds;
+
+    private final int[] ranks;
+
+    private final long[] givedPumatiCounts;
+
+    private final long[] receivedPumatiCounts;
+
+    RankingSnapshotData(long[] projectIds, int[] ranks, long[] givedPumatiCounts, long[] receivedPumatiCounts) {
+        this.projectIds = projectIds;
+        this.ranks = ranks;
+        this.givedPumatiCounts = givedPumatiCounts;
+        this.receivedPumatiCounts = receivedPumatiCounts;
+    }
+
+    public static RankingSnapshotData from(List<RankingItemDTO> items) {
+        int size = items.size();
+        long[] projectIds = new long[size];
+        int[] ranks = new int[size];
+        long[] gived = new long[size];
+        long[] received = new long[size];
+        for (int i = 0; i < size; i++) {
+            RankingItemDTO item = items.get(i);
+            projectIds[i] = item.getProjectId() == null ? 0L : item.getProjectId();
+            ranks[i] = item.getRank() == null ? i + 1 : item.getRank();
+            gived[i] = item.getGivedPumatiCount() == null ? 0L : item.getGivedPumatiCount();
+            received[i] = item.getReceivedPumatiCount() == null ? 0L : item.getReceivedPumatiCount();
+        }
+        return new RankingSnapshotData(projectIds, ranks, gived, received);
+    }
+
+    /**
+     * 변경된 항목만 이전 랭킹에서 빼고 정렬된 위치에 다시 병합한다. (gived 내림차순, projectId 오름차순)
+     */
+    RankingSnapshotData merge(List<RankingItemDTO> changes, ProjectPositionIndex positions) {
+        int previousSize = size();
+        boolean[] replaced = new boolean[previousSize];
+        int replacedCount = 0;
+        for (RankingItemDTO change : changes) {
+            int position = positions.positionOf(change.getProjectId());
+            if (position != ProjectPositionIndex.NOT_FOUND && !replaced[position]) {
+                replaced[position] = true;
+                replacedCount++;
+            }
+        }
+
+        List<RankingItemDTO> sortedChanges = new ArrayList<>(changes);
+        sortedChanges.sort(Comparator
+                .comparing(RankingItemDTO::getGivedPumatiCount, Comparator.reverseOrder())
+                .thenComparing(RankingItemDTO::getProjectId));
+
+        int size = previousSize - replacedCount + sortedChanges.size();
+        long[] mergedProjectIds = new long[size];
+        int[] mergedRanks = new int[size];
+        long[] mergedGived = new long[size];
+        long[] mergedReceived = new long[size];
+
+        int i = 0;
+        int j = 0;
+        for (int out = 0; out < size; out++) {
+            while (i < previousSize && replaced[i]) {
+                i++;
+            }
+            RankingItemDTO change = j < sortedChanges.size() ? sortedChanges.get(j) : null;
+            boolean takePrevious = i < previousSize
+                    && (change == null
+                    || givedPumatiCounts[i] > change.getGivedPumatiCount()
+                    || (givedPumatiCounts[i] == change.getGivedPumatiCount() && projectIds[i] < change.getProjectId()));
+
+            if (takePrevious) {
+                mergedProjectIds[out] = projectIds[i];
+                mergedGived[out] = givedPumatiCounts[i];
+                mergedReceived[out] = receivedPumatiCounts[i];
+                i++;
+            } else {
+                mergedProjectIds[out] = change.getProjectId();
+                mergedGived[out] = change.getGivedPumatiCount();
+                mergedReceived[out] = change.getReceivedPumatiCount() == null ? 0L : change.getReceivedPumatiCount();
+                j++;
+            }
+            mergedRanks[out] = out + 1;
+        }
+        return new RankingSnapshotData(mergedProjectIds, mergedRanks, mergedGived, mergedReceived);
+    }
+
+    public int size() {
+        return projectIds.length;
+    }
+
+    public long projectIdAt(int index) {
+        return projectIds[index];
+    }
+
+    public int rankAt(int index) {
+        return ranks[index];
+    }
+
+    public long givedPumatiCountAt(int index) {
+        return givedPumatiCounts[index];
+    }
+
+    public long receivedPumatiCountAt(int index) {
+        return receivedPumatiCounts[index];
+    }
+
+    public RankingItemDTO itemAt(int index) {
+        return RankingItemDTO.builder()
+                .projectId(projectIds[index])
+                .rank(ranks[index])
+                .givedPumatiCount(givedPumatiCounts[index])
+                .receivedPumatiCount(receivedPumatiCounts[index])
+                .build();
+    }
+
+    public List<RankingItemDTO> asItems() {
+        return new ItemView();
+    }
+
+    private final class ItemView extends AbstractList<RankingItemDTO> implements RandomAccess {
+
+        @Override
+        public RankingItemDTO get(int index) {
+            return itemAt(index);
+        }
+
+        @Override
+        public int size() {
+            return projectIds.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tebutebu.apiserver.domain.ProjectRankingSnapshot;
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
+import com.tebutebu.apiserver.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 포맷 이전에 JSON 으로 저장된 스냅샷까지 함께 읽는다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RankingSnapshotDecoder {
+
+    private static final TypeReference<Map<String, List<RankingItemDTO>>> LEGACY_RANKING_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public RankingSnapshotData decode(ProjectRankingSnapshot snapshot) {
+        try {
+            if (RankingSnapshotCodec.isEncoded(snapshot.getRankingBlob())) {
+                return RankingSnapshotCodec.decode(snapshot.getRankingBlob());
+            }
+
+            String raw = snapshot.getRankingData();
+            if (raw.startsWith("\"") && raw.endsWith("\"")) {
+                raw = objectMapper.readValue(raw, String.class);
+            }
+            Map<String, List<RankingItemDTO>> wrapper = objectMapper.readValue(raw, LEGACY_RANKING_TYPE);
+            return RankingSnapshotData.from(wrapper.getOrDefault("projects", List.of()));
+        } catch (Exception e) {
+            log.error("Failed to decode snapshot for snapshotId={}", snapshot.getId(), e);
+            throw new BusinessException(BusinessErrorCode.SNAPSHOT_SERIALIZATION_FAILED, e);
+        }
+    }
+
+}
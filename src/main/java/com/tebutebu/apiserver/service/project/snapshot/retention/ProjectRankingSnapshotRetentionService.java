@@ -0,0 +1,12 @@
+package com.tebutebu.apiserver.service.project.snapshot.retention;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Transactional
+public interface ProjectRankingSnapshotRetentionService {
+
+    SnapshotCompactionResult compactBatch(Long afterId, LocalDateTime now);
+
+}
@@ -0,0 +1,75 @@
+package com.tebutebu.apiserver.service.project.snapshot.retention;
+
+import com.tebutebu.apiserver.domain.ProjectRankingSnapshot;
+import com.tebutebu.apiserver.dto.project.snapshot.response.ProjectRankingSnapshotTimeDTO;
+import com.tebutebu.apiserver.repository.ProjectRankingSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ProjectRankingSnapshotRetentionServiceImpl implements ProjectRankingSnapshotRetentionService {
+
+    private final ProjectRankingSnapshotRepository projectRankingSnapshotRepository;
+
+    @Value("${ranking.snapshot.retention.full-resolution-hours:24}")
+    private long fullResolutionHours;
+
+    @Value("${ranking.snapshot.retention.hourly-days:7}")
+    private long hourlyDays;
+
+    @Value("${ranking.snapshot.retention.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public SnapshotCompactionResult compactBatch(Long afterId, LocalDateTime now) {
+        LocalDateTime fullResolutionCutoff = now.minusHours(fullResolutionHours);
+        LocalDateTime hourlyCutoff = now.minusDays(hourlyDays);
+
+        // 다음 행과 같은 구간에 속하면 삭제한다. 마지막 행은 다음 배치에서 판단한다.
+        List<ProjectRankingSnapshotTimeDTO> rows = projectRankingSnapshotRepository
+                .findRetentionCandidates(afterId, fullResolutionCutoff, PageRequest.of(0, batchSize + 1));
+        if (rows.size() <= 1) {
+            return new SnapshotCompactionResult(afterId, 0, false);
+        }
+
+        Long latestId = projectRankingSnapshotRepository.findTopByOrderByRequestedAtDesc()
+                .map(ProjectRankingSnapshot::getId)
+                .orElse(null);
+
+        int decided = rows.size() - 1;
+        List<Long> deletions = new ArrayList<>();
+        for (int i = 0; i < decided; i++) {
+            ProjectRankingSnapshotTimeDTO current = rows.get(i);
+            ProjectRankingSnapshotTimeDTO next = rows.get(i + 1);
+            if (current.getId().equals(latestId)) {
+                continue;
+            }
+            if (bucketOf(current.getRequestedAt(), hourlyCutoff).equals(bucketOf(next.getRequestedAt(), hourlyCutoff))) {
+                deletions.add(current.getId());
+            }
+        }
+
+        if (!deletions.isEmpty()) {
+            projectRankingSnapshotRepository.deleteAllByIdInBatch(deletions);
+        }
+        return new SnapshotCompactionResult(rows.get(decided - 1).getId(), deletions.size(), rows.size() > batchSize);
+    }
+
+    private LocalDateTime bucketOf(LocalDateTime requestedAt, LocalDateTime hourlyCutoff) {
+        if (requestedAt.isBefore(hourlyCutoff)) {
+            return requestedAt.truncatedTo(ChronoUnit.DAYS);
+        }
+        return requestedAt.truncatedTo(ChronoUnit.HOURS);
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.tebutebu.apiserver.service.project.snapshot.retention;
+
+public record SnapshotCompactionResult(Long nextCursor, int deletedCount, boolean hasMore) {
+}
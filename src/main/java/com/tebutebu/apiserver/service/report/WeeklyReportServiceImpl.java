@@ -21,6 +21,7 @@ import com.tebutebu.apiserver.service.member.MemberService;
 import com.tebutebu.apiserver.service.project.ProjectService;
 import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotService;
 import com.tebutebu.apiserver.service.team.TeamService;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
@@ -65,6 +66,9 @@ public class WeeklyReportServiceImpl implements WeeklyReportService {
                 .build();
 
         List<ProjectRankingSnapshotResponseDTO> snapshots = projectRankingSnapshotService.getSnapshotsForLast7Days();
+        LocalDate weekStartDate = LocalDate.now()
+                .with(java.time.DayOfWeek.MONDAY)
+                .minusWeeks(1);
 
         boolean hasNext;
 
@@ -85,7 +89,8 @@ public class WeeklyReportServiceImpl implements WeeklyReportService {
 
                 if (consentingMembers.isEmpty()) continue;
 
-                WeeklyReportImageRequestDTO imageRequestDTO = generateReportImageRequest(projectDTO, snapshots);
+                PumatiCounts weeklyTotals = getWeeklyPumatiTotals(projectDTO, weekStartDate);
+                WeeklyReportImageRequestDTO imageRequestDTO = generateReportImageRequest(projectDTO, weeklyTotals, snapshots);
                 String imageUrl;
                 try {
                     String json = aiWeeklyReportImageRequestService.requestGenerateWeeklyReportImage(imageRequestDTO);
@@ -105,8 +110,8 @@ public class WeeklyReportServiceImpl implements WeeklyReportService {
                                         .term(projectDTO.getTerm())
                                         .teamNumber(projectDTO.getTeamNumber())
                                         .projectTitle(projectDTO.getTitle())
-                                        .receivedPumatiCount(projectDTO.getReceivedPumatiCount())
-                                        .givedPumatiCount(projectDTO.getGivedPumatiCount())
+                                        .receivedPumatiCount(weeklyTotals.receivedPumatiCount())
+                                        .givedPumatiCount(weeklyTotals.givedPumatiCount())
                                         .badgeStats(teamService.getReceivedBadgeStats(projectDTO.getTeamId()))
                                         .pumatiRank(getLatestPumatiRank(projectDTO.getId()))
                                         .reportImageUrl(imageUrl)
@@ -134,6 +139,7 @@ public class WeeklyReportServiceImpl implements WeeklyReportService {
 
     private WeeklyReportImageRequestDTO generateReportImageRequest(
             ProjectPageResponseDTO projectDTO,
+            PumatiCounts weeklyTotals,
             List<ProjectRankingSnapshotResponseDTO> snapshots
     ) {
         List<BadgeStatDTO> badgeStats = teamService.getReceivedBadgeStats(projectDTO.getTeamId());
@@ -145,8 +151,8 @@ public class WeeklyReportServiceImpl implements WeeklyReportService {
         TeamInfoDTO teamInfo = new TeamInfoDTO(
                 projectDTO.getTerm(),
                 projectDTO.getTeamNumber(),
-                projectDTO.getReceivedPumatiCount(),
-                projectDTO.getGivedPumatiCount(),
+                weeklyTotals.receivedPumatiCount(),
+                weeklyTotals.givedPumatiCount(),
                 totalBadgeCount
         );
 
@@ -228,16 +234,20 @@ public class WeeklyReportServiceImpl implements WeeklyReportService {
                 .toUpperCase();
     }
 
-    private String getLatestPumatiRank(Long projectId) {
-        ProjectRankingSnapshotResponseDTO latestSnapshot = projectRankingSnapshotService.getLatestSnapshot();
-        if (latestSnapshot == null || latestSnapshot.getData() == null) return "N/A";
+    // 주간 초기화 시 보관된 합계를 우선하고, 아직 초기화 전이면 현재 값을 사용한다.
+    private PumatiCounts getWeeklyPumatiTotals(ProjectPageResponseDTO projectDTO, LocalDate weekStartDate) {
+        return teamService.findWeeklyPumatiTotals(projectDTO.getTeamId(), weekStartDate)
+                .orElseGet(() -> new PumatiCounts(
+                        Objects.requireNonNullElse(projectDTO.getGivedPumatiCount(), 0L),
+                        Objects.requireNonNullElse(projectDTO.getReceivedPumatiCount(), 0L)
+                ));
+    }
 
-        return latestSnapshot.getData().stream()
-                .filter(dto -> dto.getProjectId().equals(projectId))
+    private String getLatestPumatiRank(Long projectId) {
+        return projectRankingSnapshotService.findLatestRankingItem(projectId)
                 .map(RankingItemDTO::getRank)
                 .filter(Objects::nonNull)
                 .map(String::valueOf)
-                .findFirst()
                 .orElse("N/A");
     }
 
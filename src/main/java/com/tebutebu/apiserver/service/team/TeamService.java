@@ -10,9 +10,13 @@ import com.tebutebu.apiserver.dto.team.response.TeamResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.request.ContextCountCursorPageRequestDTO;
 import com.tebutebu.apiserver.pagination.dto.response.CursorPageResponseDTO;
 import com.tebutebu.apiserver.pagination.dto.response.meta.CountCursorMetaDTO;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounts;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Transactional
 public interface TeamService {
@@ -42,27 +46,34 @@ public interface TeamService {
 
     void resetAiBadgeProgress(Long teamId);
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     Long incrementGivedPumati(Long teamId);
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     void incrementGivedPumatiBy(Long teamId, long amount);
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     Long incrementReceivedPumati(Long teamId);
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     void incrementReceivedPumatiBy(Long teamId, long amount);
 
     void resetAllPumatiCounts();
 
+    @Transactional(readOnly = true)
+    Optional<PumatiCounts> findWeeklyPumatiTotals(Long teamId, LocalDate weekStartDate);
+
     Team dtoToEntity(TeamCreateRequestDTO dto);
 
-    default TeamResponseDTO entityToDTO(Team team, Long projectId, Integer rank) {
+    default TeamResponseDTO entityToDTO(Team team, Long projectId, Integer rank, PumatiCounts pumatiCounts) {
         return TeamResponseDTO.builder()
                 .id(team.getId())
                 .term(team.getTerm())
                 .number(team.getNumber())
                 .projectId(projectId)
                 .rank(rank)
-                .givedPumatiCount(team.getGivedPumatiCount())
-                .receivedPumatiCount(team.getReceivedPumatiCount())
+                .givedPumatiCount(pumatiCounts.givedPumatiCount())
+                .receivedPumatiCount(pumatiCounts.receivedPumatiCount())
                 .badgeImageUrl(team.getBadgeImageUrl())
                 .createdAt(team.getCreatedAt())
                 .modifiedAt(team.getModifiedAt())
@@ -1,7 +1,6 @@
 package com.tebutebu.apiserver.service.team;
 
 import com.tebutebu.apiserver.domain.Team;
-import com.tebutebu.apiserver.domain.TeamBadgeStat;
 import com.tebutebu.apiserver.dto.ai.badge.request.BadgeImageModificationRequestDTO;
 import com.tebutebu.apiserver.dto.ai.badge.request.TeamBadgeImageUpdateRequestDTO;
 import com.tebutebu.apiserver.dto.ai.badge.response.TeamBadgeStatPageResponseDTO;
@@ -19,17 +18,28 @@ import com.tebutebu.apiserver.pagination.dto.response.meta.CountCursorMetaDTO;
 import com.tebutebu.apiserver.pagination.internal.CursorPage;
 import com.tebutebu.apiserver.repository.TeamBadgeStatRepository;
 import com.tebutebu.apiserver.repository.TeamRepository;
+import com.tebutebu.apiserver.repository.TeamWeeklyPumatiHistoryRepository;
 import com.tebutebu.apiserver.repository.paging.badge.TeamBadgeStatPagingRepository;
 import com.tebutebu.apiserver.service.ai.badge.AiBadgeImageRequestService;
 import com.tebutebu.apiserver.service.project.ProjectService;
+import com.tebutebu.apiserver.service.project.ranking.ProjectRankingLeaderboardService;
+import com.tebutebu.apiserver.service.team.counter.PumatiClickAggregator;
+import com.tebutebu.apiserver.service.team.counter.PumatiCounts;
+import com.tebutebu.apiserver.service.team.counter.TeamPumatiCounterService;
 import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotService;
 import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
 import com.tebutebu.apiserver.global.exception.BusinessException;
+import com.tebutebu.apiserver.global.transaction.AfterTransaction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -41,6 +51,9 @@ public class TeamServiceImpl implements TeamService {
     @Value("${default.badge.image.url}")
     private String defaultBadgeImageUrl;
 
+    @Value("${scheduler.pumati-count.reset-zone:Asia/Seoul}")
+    private String resetZone;
+
     private final TeamRepository teamRepository;
 
     private final TeamBadgeStatRepository teamBadgeStatRepository;
@@ -51,6 +64,14 @@ public class TeamServiceImpl implements TeamService {
 
     private final ProjectRankingSnapshotService projectRankingSnapshotService;
 
+    private final ProjectRankingLeaderboardService projectRankingLeaderboardService;
+
+    private final TeamPumatiCounterService teamPumatiCounterService;
+
+    private final PumatiClickAggregator pumatiClickAggregator;
+
+    private final TeamWeeklyPumatiHistoryRepository teamWeeklyPumatiHistoryRepository;
+
     private final AiBadgeImageRequestService aiBadgeImageRequestService;
 
     @Override
@@ -59,10 +80,10 @@ public class TeamServiceImpl implements TeamService {
                 .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
         Long projectId = findTeamProjectId(id);
         if (projectId == null) {
-            return entityToDTO(team, null, null);
+            return entityToDTO(team, null, null, teamPumatiCounterService.getCounts(team));
         } else {
-            Integer rank = findTeamProjectRank(id);
-            return entityToDTO(team, projectId, rank);
+            Integer rank = findTeamProjectRank(projectId);
+            return entityToDTO(team, projectId, rank, teamPumatiCounterService.getCounts(team));
         }
     }
 
@@ -76,10 +97,10 @@ public class TeamServiceImpl implements TeamService {
         Long teamId = team.getId();
         Long projectId = findTeamProjectId(teamId);
         if (projectId == null) {
-            return entityToDTO(team, null, null);
+            return entityToDTO(team, null, null, teamPumatiCounterService.getCounts(team));
         } else {
-            Integer rank = findTeamProjectRank(teamId);
-            return entityToDTO(team, projectId, rank);
+            Integer rank = findTeamProjectRank(projectId);
+            return entityToDTO(team, projectId, rank, teamPumatiCounterService.getCounts(team));
         }
     }
 
@@ -155,15 +176,12 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     public void increaseOrCreateBadge(Long giverTeamId, Long receiverTeamId) {
-        TeamBadgeStat teamBadgeStat = teamBadgeStatRepository.findByGiverTeamIdAndReceiverTeamId(giverTeamId, receiverTeamId)
-                .orElseGet(() -> TeamBadgeStat.builder()
-                        .giverTeam(Team.builder().id(giverTeamId).build())
-                        .receiverTeam(Team.builder().id(receiverTeamId).build())
-                        .acquiredCount(0)
-                        .build());
-
-        teamBadgeStat.incrementAcquiredCount();
-        teamBadgeStatRepository.save(teamBadgeStat);
+        try {
+            teamBadgeStatRepository.upsertAcquiredCount(giverTeamId, receiverTeamId, 1);
+        } catch (DataIntegrityViolationException e) {
+            // 존재하지 않는 팀이면 FK 제약에 걸린다.
+            throw new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND, e);
+        }
     }
 
     @Override
@@ -213,6 +231,11 @@ public class TeamServiceImpl implements TeamService {
         team.changeBadgeImageUrl(badgeImageUrl);
         team.setAiBadgeInProgress(false);
         teamRepository.save(team);
+
+        Long projectId = findTeamProjectId(teamId);
+        if (projectId != null) {
+            projectService.evictDetail(projectId);
+        }
     }
 
     @Override
@@ -226,44 +249,49 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     public Long incrementGivedPumati(Long teamId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
-        team.increaseGivedPumati();
-        teamRepository.save(team);
-        return team.getGivedPumatiCount();
+        return pumatiClickAggregator.addGived(teamId);
     }
 
     @Override
     public void incrementGivedPumatiBy(Long teamId, long amount) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
-        team.increaseGivedPumatiBy(amount);
-        teamRepository.save(team);
+        incrementInDatabase(teamId, amount, 0);
+        teamPumatiCounterService.adjustAfterCommit(teamId, amount, 0);
+        projectRankingLeaderboardService.applyDelta(teamId, amount, 0);
     }
 
     @Override
     public Long incrementReceivedPumati(Long teamId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
-        team.increaseReceivedPumati();
-        teamRepository.save(team);
-        return team.getReceivedPumatiCount();
+        return pumatiClickAggregator.addReceived(teamId);
     }
 
     @Override
     public void incrementReceivedPumatiBy(Long teamId, long amount) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
-        team.increaseReceivedPumatiBy(amount);
-        teamRepository.save(team);
+        incrementInDatabase(teamId, 0, amount);
+        teamPumatiCounterService.adjustAfterCommit(teamId, 0, amount);
+        projectRankingLeaderboardService.applyDelta(teamId, 0, amount);
     }
 
     @Override
     public void resetAllPumatiCounts() {
-        List<Team> teams = teamRepository.findAll();
-        for (Team team : teams) {
-            team.resetPumatiCounts();
-        }
+        LocalDate weekStartDate = LocalDate.now(ZoneId.of(resetZone))
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .minusWeeks(1);
+        int archived = teamWeeklyPumatiHistoryRepository.archiveCurrentCounts(weekStartDate);
+        int reset = teamRepository.resetAllPumatiCounts();
+        log.info("Archived {} team pumati counts for week starting {} and reset {} teams", archived, weekStartDate, reset);
+
+        // 보관 이후 들어온 증가분은 지우지 않고 새 주차 값으로 이어진다.
+        AfterTransaction.commit(() -> {
+            teamPumatiCounterService.reset();
+            pumatiClickAggregator.reset();
+        });
+        projectRankingLeaderboardService.invalidate();
+    }
+
+    @Override
+    public Optional<PumatiCounts> findWeeklyPumatiTotals(Long teamId, LocalDate weekStartDate) {
+        return teamWeeklyPumatiHistoryRepository.findByTeamIdAndWeekStartDate(teamId, weekStartDate)
+                .map(history -> new PumatiCounts(history.getGivedPumatiCount(), history.getReceivedPumatiCount()));
     }
 
     @Override
@@ -274,19 +302,15 @@ public class TeamServiceImpl implements TeamService {
                 .build();
     }
 
-    private Integer findTeamProjectRank(Long teamId) {
-        if (!projectService.existsByTeamId(teamId)) {
-            return null;
+    private void incrementInDatabase(Long teamId, long givedAmount, long receivedAmount) {
+        if (teamRepository.incrementPumatiCounts(teamId, givedAmount, receivedAmount) == 0) {
+            throw new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND);
         }
+    }
 
-        ProjectResponseDTO project = projectService.getByTeamId(teamId);
-        Long projectId = project.getId();
-
+    private Integer findTeamProjectRank(Long projectId) {
         try {
-            return projectRankingSnapshotService.getLatestSnapshot()
-                    .getData().stream()
-                    .filter(item -> projectId.equals(item.getProjectId()))
-                    .findFirst()
+            return projectRankingSnapshotService.findLatestRankingItem(projectId)
                     .map(RankingItemDTO::getRank)
                     .orElse(null);
         } catch (NoSuchElementException ex) {
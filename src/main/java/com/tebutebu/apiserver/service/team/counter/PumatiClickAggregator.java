@@ -0,0 +1,112 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+import com.tebutebu.apiserver.service.project.ranking.ProjectRankingLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 단위로 품앗이 클릭을 모아 두었다가 주기적으로 카운터 저장소에 한 번에 반영한다.
+ * 응답으로 돌려주는 값은 마지막으로 확인한 저장소 값 + 아직 반영되지 않은 클릭 수의 근사치다.
+ * 저장소 값은 드레인할 때마다 다시 읽어 다른 노드의 반영분을 따라간다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PumatiClickAggregator {
+
+    private final TeamPumatiCounterService teamPumatiCounterService;
+
+    private final ProjectRankingLeaderboardService projectRankingLeaderboardService;
+
+    private final Map<Long, LongAdder> pendingGived = new ConcurrentHashMap<>();
+
+    private final Map<Long, LongAdder> pendingReceived = new ConcurrentHashMap<>();
+
+    // 드레인/초기화 시 통째로 교체한다. (읽는 쪽은 항상 완성된 맵을 본다)
+    private final AtomicReference<Map<Long, PumatiCounts>> knownCounts = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    public long addGived(Long teamId) {
+        long known = knownCounts(teamId).givedPumatiCount();
+        LongAdder pending = pendingGived.computeIfAbsent(teamId, id -> new LongAdder());
+        pending.increment();
+        return known + pending.sum();
+    }
+
+    public long addReceived(Long teamId) {
+        long known = knownCounts(teamId).receivedPumatiCount();
+        LongAdder pending = pendingReceived.computeIfAbsent(teamId, id -> new LongAdder());
+        pending.increment();
+        return known + pending.sum();
+    }
+
+    public synchronized void drain() {
+        pendingGived.forEach((teamId, pending) -> {
+            long delta = pending.sum();
+            if (delta == 0) {
+                return;
+            }
+            // sumThenReset 은 동시 증가분을 잃을 수 있으므로 읽은 만큼만 뺀다.
+            pending.add(-delta);
+            try {
+                teamPumatiCounterService.incrementGived(teamId, delta);
+                projectRankingLeaderboardService.applyDelta(teamId, delta, 0);
+            } catch (Exception e) {
+                log.warn("Failed to drain gived pumati clicks for teamId={}. Retrying next cycle.", teamId, e);
+                pending.add(delta);
+            }
+        });
+
+        pendingReceived.forEach((teamId, pending) -> {
+            long delta = pending.sum();
+            if (delta == 0) {
+                return;
+            }
+            pending.add(-delta);
+            try {
+                teamPumatiCounterService.incrementReceived(teamId, delta);
+                projectRankingLeaderboardService.applyDelta(teamId, 0, delta);
+            } catch (Exception e) {
+                log.warn("Failed to drain received pumati clicks for teamId={}. Retrying next cycle.", teamId, e);
+                pending.add(delta);
+            }
+        });
+
+        refreshKnownCounts();
+    }
+
+    /**
+     * 저장소가 초기화된 뒤 호출한다. 아직 드레인되지 않은 클릭은 그대로 두고 기준 값만 버린다.
+     */
+    public synchronized void reset() {
+        knownCounts.set(new ConcurrentHashMap<>());
+    }
+
+    private PumatiCounts knownCounts(Long teamId) {
+        Map<Long, PumatiCounts> known = knownCounts.get();
+        PumatiCounts counts = known.get(teamId);
+        if (counts != null) {
+            return counts;
+        }
+        // 저장소 조회는 맵 잠금 밖에서 수행한다. 동시에 적재되면 먼저 들어간 값을 쓴다.
+        PumatiCounts loaded = teamPumatiCounterService.loadCounts(teamId);
+        PumatiCounts existing = known.putIfAbsent(teamId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void refreshKnownCounts() {
+        Map<Long, PumatiCounts> known = knownCounts.get();
+        if (known.isEmpty()) {
+            return;
+        }
+        // 저장소에 없는 팀은 빠지고 다음 클릭 때 다시 적재된다.
+        Map<Long, PumatiCounts> refreshed = new ConcurrentHashMap<>(teamPumatiCounterService.getCounts(known.keySet()));
+        knownCounts.set(refreshed);
+    }
+
+}
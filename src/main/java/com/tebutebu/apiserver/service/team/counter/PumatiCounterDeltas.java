@@ -0,0 +1,11 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+import java.util.Map;
+
+public record PumatiCounterDeltas(String batchId, Map<Long, Long> givedDeltas, Map<Long, Long> receivedDeltas) {
+
+    public boolean isEmpty() {
+        return givedDeltas.isEmpty() && receivedDeltas.isEmpty();
+    }
+
+}
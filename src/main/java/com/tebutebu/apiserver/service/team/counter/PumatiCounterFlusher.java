@@ -0,0 +1,55 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PumatiCounterFlusher {
+
+    private final TeamPumatiCounterService teamPumatiCounterService;
+
+    private final PumatiClickAggregator pumatiClickAggregator;
+
+    public void drainClicks() {
+        pumatiClickAggregator.drain();
+    }
+
+    public synchronized void flush() {
+        PumatiCounterDeltas deltas;
+        try {
+            deltas = teamPumatiCounterService.drainPending();
+        } catch (Exception e) {
+            log.warn("Failed to drain pending pumati counters", e);
+            return;
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            teamPumatiCounterService.applyToDatabase(deltas);
+            log.debug("Flushed pumati counters. gived={}, received={}",
+                    deltas.givedDeltas().size(), deltas.receivedDeltas().size());
+        } catch (Exception e) {
+            log.error("Failed to flush pumati counters into DB. Restoring pending deltas.", e);
+            teamPumatiCounterService.restorePending(deltas);
+            return;
+        }
+
+        try {
+            teamPumatiCounterService.confirmApplied(deltas);
+        } catch (Exception e) {
+            // 확인되지 않은 배치는 이후 드레인에서 pending 으로 복구된다.
+            log.warn("Failed to confirm flushed pumati counters", e);
+        }
+    }
+
+    public void flushAll() {
+        drainClicks();
+        flush();
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+public record PumatiCounts(long givedPumatiCount, long receivedPumatiCount) {
+}
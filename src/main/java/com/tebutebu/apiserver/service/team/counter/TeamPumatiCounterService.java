@@ -0,0 +1,37 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+import com.tebutebu.apiserver.domain.Team;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Redis 만 다루는 메서드는 트랜잭션 없이 실행해 커넥션 풀을 점유하지 않는다.
+ */
+public interface TeamPumatiCounterService {
+
+    long incrementGived(Long teamId, long amount);
+
+    long incrementReceived(Long teamId, long amount);
+
+    void adjustAfterCommit(Long teamId, long givedAmount, long receivedAmount);
+
+    PumatiCounts getCounts(Team team);
+
+    PumatiCounts loadCounts(Long teamId);
+
+    Map<Long, PumatiCounts> getCounts(Collection<Long> teamIds);
+
+    PumatiCounterDeltas drainPending();
+
+    @Transactional
+    void applyToDatabase(PumatiCounterDeltas deltas);
+
+    void confirmApplied(PumatiCounterDeltas deltas);
+
+    void restorePending(PumatiCounterDeltas deltas);
+
+    void reset();
+
+}
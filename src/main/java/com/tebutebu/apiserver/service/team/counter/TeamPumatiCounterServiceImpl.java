@@ -0,0 +1,352 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+import com.tebutebu.apiserver.domain.Team;
+import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
+import com.tebutebu.apiserver.global.exception.BusinessException;
+import com.tebutebu.apiserver.global.transaction.AfterTransaction;
+import com.tebutebu.apiserver.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class TeamPumatiCounterServiceImpl implements TeamPumatiCounterService {
+
+    // 카운터가 아직 적재되지 않은 팀이면 nil 을 반환한다. (DB 값을 ARGV[3]으로 넘겨 재시도)
+    // 적재 시 아직 DB에 반영되지 않은 증가분(pending, 처리 중인 배치)을 같은 스크립트 안에서 더해 드레인과 경합하지 않는다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then "
+                    + "if not ARGV[3] then return nil end "
+                    + "local count = tonumber(ARGV[3]) + tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') "
+                    + "for _, batch in ipairs(redis.call('ZRANGE', KEYS[3], 0, -1)) do "
+                    + "count = count + tonumber(redis.call('HGET', ARGV[4] .. batch .. ARGV[5], ARGV[1]) or '0') "
+                    + "end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], count) "
+                    + "end "
+                    + "redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2]) "
+                    + "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])",
+            Long.class
+    );
+
+    // DB에 이미 반영된 증가분을 캐시된 카운터에만 더한다.
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return nil end "
+                    + "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])",
+            Long.class
+    );
+
+    // 드레인마다 pending 을 배치 전용 키로 옮기고 배치 목록에 드레인 시각과 함께 등록한다.
+    // 배치는 DB 반영이 확인될 때까지 남아 카운터 적재 시 함께 더해진다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local gived = redis.call('HGETALL', KEYS[1]) "
+                    + "local received = redis.call('HGETALL', KEYS[2]) "
+                    + "if #gived == 0 and #received == 0 then return {gived, received} end "
+                    + "if #gived > 0 then "
+                    + "redis.call('RENAME', KEYS[1], KEYS[3]) "
+                    + "redis.call('EXPIRE', KEYS[3], ARGV[3]) "
+                    + "end "
+                    + "if #received > 0 then "
+                    + "redis.call('RENAME', KEYS[2], KEYS[4]) "
+                    + "redis.call('EXPIRE', KEYS[4], ARGV[3]) "
+                    + "end "
+                    + "redis.call('ZADD', KEYS[5], ARGV[2], ARGV[1]) "
+                    + "return {gived, received}",
+            List.class
+    );
+
+    // 이미 복구된 배치면 0을 반환한다.
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end "
+                    + "redis.call('DEL', KEYS[2], KEYS[3]) "
+                    + "return 1",
+            Long.class
+    );
+
+    // 배치 내용을 pending 으로 되돌린다. 배치 목록에서 먼저 빼므로 같은 배치를 두 번 되돌리지 않는다.
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end "
+                    + "for k = 2, 3 do "
+                    + "local entries = redis.call('HGETALL', KEYS[k]) "
+                    + "for i = 1, #entries, 2 do "
+                    + "redis.call('HINCRBY', KEYS[k + 2], entries[i], entries[i + 1]) "
+                    + "end "
+                    + "redis.call('DEL', KEYS[k]) "
+                    + "end "
+                    + "return 1",
+            Long.class
+    );
+
+    // 드레인 후 이 시간 안에 반영 확인이 없으면 처리하던 노드가 죽은 것으로 보고 pending 으로 되돌린다.
+    private static final Duration IN_FLIGHT_RECOVER_AFTER = Duration.ofMinutes(5);
+
+    // 배치 키 자체는 복구가 한참 동안 돌지 않는 경우를 대비한 안전장치로만 만료시킨다.
+    private static final Duration IN_FLIGHT_TTL = Duration.ofDays(1);
+
+    private static final String GIVED = "gived";
+
+    private static final String RECEIVED = "received";
+
+    private final TeamRepository teamRepository;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${team.pumati.counter.key-prefix:team:pumati:}")
+    private String counterKeyPrefix;
+
+    @Override
+    public long incrementGived(Long teamId, long amount) {
+        try {
+            return increment(teamId, amount, givedKey(), pendingGivedKey(), GIVED, Team::getGivedPumatiCount);
+        } catch (DataAccessException e) {
+            log.warn("Pumati counter unavailable for teamId={}. Writing through to DB.", teamId, e);
+            incrementInDatabase(teamId, amount, 0);
+            return teamRepository.findGivedPumatiCountById(teamId).orElse(0L);
+        }
+    }
+
+    @Override
+    public long incrementReceived(Long teamId, long amount) {
+        try {
+            return increment(teamId, amount, receivedKey(), pendingReceivedKey(), RECEIVED, Team::getReceivedPumatiCount);
+        } catch (DataAccessException e) {
+            log.warn("Pumati counter unavailable for teamId={}. Writing through to DB.", teamId, e);
+            incrementInDatabase(teamId, 0, amount);
+            return teamRepository.findReceivedPumatiCountById(teamId).orElse(0L);
+        }
+    }
+
+    @Override
+    public void adjustAfterCommit(Long teamId, long givedAmount, long receivedAmount) {
+        Runnable action = () -> {
+            try {
+                if (givedAmount != 0) {
+                    stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(givedKey()), teamId.toString(), Long.toString(givedAmount));
+                }
+                if (receivedAmount != 0) {
+                    stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(receivedKey()), teamId.toString(), Long.toString(receivedAmount));
+                }
+            } catch (Exception e) {
+                // 카운터가 어긋나지 않도록 캐시를 비우고 다음 증가 시 DB에서 다시 적재한다.
+                log.warn("Failed to adjust pumati counter for teamId={}. Evicting cached counts.", teamId, e);
+                evict(teamId);
+            }
+        };
+        AfterTransaction.commit(action);
+    }
+
+    @Override
+    public PumatiCounts getCounts(Team team) {
+        PumatiCounts cached = getCounts(List.of(team.getId())).get(team.getId());
+        if (cached != null) {
+            return cached;
+        }
+        return new PumatiCounts(team.getGivedPumatiCount(), team.getReceivedPumatiCount());
+    }
+
+    @Override
+    public PumatiCounts loadCounts(Long teamId) {
+        PumatiCounts cached = getCounts(List.of(teamId)).get(teamId);
+        if (cached != null) {
+            return cached;
+        }
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
+        return new PumatiCounts(team.getGivedPumatiCount(), team.getReceivedPumatiCount());
+    }
+
+    @Override
+    public Map<Long, PumatiCounts> getCounts(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> fields = new ArrayList<>(teamIds.size());
+        for (Long teamId : teamIds) {
+            fields.add(teamId.toString());
+        }
+
+        Map<Long, PumatiCounts> counts = new HashMap<>(teamIds.size());
+        try {
+            List<Object> gived = stringRedisTemplate.opsForHash().multiGet(givedKey(), fields);
+            List<Object> received = stringRedisTemplate.opsForHash().multiGet(receivedKey(), fields);
+            for (int i = 0; i < fields.size(); i++) {
+                if (gived.get(i) == null || received.get(i) == null) {
+                    continue;
+                }
+                counts.put(Long.parseLong(fields.get(i).toString()), new PumatiCounts(
+                        Long.parseLong(gived.get(i).toString()),
+                        Long.parseLong(received.get(i).toString())
+                ));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read pumati counters from Redis. Falling back to DB values.", e);
+        }
+        return counts;
+    }
+
+    @Override
+    public PumatiCounterDeltas drainPending() {
+        recoverExpiredBatches();
+
+        String batchId = UUID.randomUUID().toString();
+        List<?> entries = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(pendingGivedKey(), pendingReceivedKey(), batchKey(batchId, GIVED), batchKey(batchId, RECEIVED), batchesKey()),
+                batchId, Long.toString(System.currentTimeMillis()), Long.toString(IN_FLIGHT_TTL.toSeconds()));
+        if (entries == null || entries.size() < 2) {
+            return new PumatiCounterDeltas(batchId, Map.of(), Map.of());
+        }
+        return new PumatiCounterDeltas(batchId, toDeltas((List<?>) entries.get(0)), toDeltas((List<?>) entries.get(1)));
+    }
+
+    @Override
+    public void applyToDatabase(PumatiCounterDeltas deltas) {
+        Set<Long> teamIds = new HashSet<>(deltas.givedDeltas().keySet());
+        teamIds.addAll(deltas.receivedDeltas().keySet());
+
+        for (Long teamId : teamIds) {
+            long gived = deltas.givedDeltas().getOrDefault(teamId, 0L);
+            long received = deltas.receivedDeltas().getOrDefault(teamId, 0L);
+            if (teamRepository.incrementPumatiCounts(teamId, gived, received) == 0) {
+                log.warn("Dropping pumati deltas for missing teamId={}", teamId);
+            }
+        }
+    }
+
+    @Override
+    public void confirmApplied(PumatiCounterDeltas deltas) {
+        String batchId = deltas.batchId();
+        Long confirmed = stringRedisTemplate.execute(CONFIRM_SCRIPT,
+                List.of(batchesKey(), batchKey(batchId, GIVED), batchKey(batchId, RECEIVED)), batchId);
+        if (confirmed == null || confirmed == 0) {
+            log.warn("Pumati batch {} was recovered before confirmation. Its deltas may be applied twice.", batchId);
+        }
+    }
+
+    @Override
+    public void restorePending(PumatiCounterDeltas deltas) {
+        restoreBatch(deltas.batchId());
+    }
+
+    @Override
+    public void reset() {
+        // 누적 카운터만 비운다. 아직 DB에 반영되지 않은 pending/배치 증가분은 남겨 두고,
+        // 다음 증가 시 초기화된 DB 값에 더해 다시 적재된다.
+        stringRedisTemplate.delete(List.of(givedKey(), receivedKey()));
+    }
+
+    private long increment(Long teamId, long amount, String counterKey, String pendingKey, String suffix,
+                           Function<Team, Long> dbValue) {
+        List<String> keys = List.of(counterKey, pendingKey, batchesKey());
+        String field = teamId.toString();
+
+        Long count = stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, field, Long.toString(amount));
+        if (count != null) {
+            return count;
+        }
+
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND));
+        return stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, field, Long.toString(amount),
+                dbValue.apply(team).toString(), batchKeyPrefix(), ":" + suffix);
+    }
+
+    private void incrementInDatabase(Long teamId, long givedAmount, long receivedAmount) {
+        if (teamRepository.incrementPumatiCounts(teamId, givedAmount, receivedAmount) == 0) {
+            throw new BusinessException(BusinessErrorCode.TEAM_NOT_FOUND);
+        }
+    }
+
+    private void evict(Long teamId) {
+        try {
+            stringRedisTemplate.opsForHash().delete(givedKey(), teamId.toString());
+            stringRedisTemplate.opsForHash().delete(receivedKey(), teamId.toString());
+        } catch (Exception e) {
+            log.error("Failed to evict pumati counter for teamId={}", teamId, e);
+        }
+    }
+
+    private void recoverExpiredBatches() {
+        long cutoff = System.currentTimeMillis() - IN_FLIGHT_RECOVER_AFTER.toMillis();
+        Set<String> expired = stringRedisTemplate.opsForZSet().rangeByScore(batchesKey(), Double.NEGATIVE_INFINITY, cutoff);
+        if (expired == null) {
+            return;
+        }
+        for (String batchId : expired) {
+            if (restoreBatch(batchId)) {
+                log.warn("Recovered unconfirmed pumati batch {} back into pending", batchId);
+            }
+        }
+    }
+
+    private boolean restoreBatch(String batchId) {
+        Long restored = stringRedisTemplate.execute(RESTORE_SCRIPT, List.of(
+                batchesKey(),
+                batchKey(batchId, GIVED),
+                batchKey(batchId, RECEIVED),
+                pendingGivedKey(),
+                pendingReceivedKey()
+        ), batchId);
+        return restored != null && restored == 1;
+    }
+
+    private Map<Long, Long> toDeltas(List<?> entries) {
+        if (entries.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> deltas = new HashMap<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            if (delta != 0) {
+                deltas.put(Long.parseLong(entries.get(i).toString()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    private String givedKey() {
+        return counterKeyPrefix + "gived";
+    }
+
+    private String receivedKey() {
+        return counterKeyPrefix + "received";
+    }
+
+    private String pendingGivedKey() {
+        return counterKeyPrefix + "pending:gived";
+    }
+
+    private String pendingReceivedKey() {
+        return counterKeyPrefix + "pending:received";
+    }
+
+    private String batchesKey() {
+        return counterKeyPrefix + "in-flight:batches";
+    }
+
+    private String batchKeyPrefix() {
+        return counterKeyPrefix + "in-flight:";
+    }
+
+    private String batchKey(String batchId, String suffix) {
+        return batchKeyPrefix() + batchId + ":" + suffix;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.tebutebu.apiserver.global.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tebutebu.apiserver.dto.project.response.ProjectGithubUrlDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NdjsonWriter Unit Tests")
+class NdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("항목마다 한 줄의 JSON 으로 기록한다")
+    void body_writesOneJsonObjectPerLine() throws Exception {
+        List<ProjectGithubUrlDTO> rows = List.of(
+                new ProjectGithubUrlDTO(1L, "https://github.com/a"),
+                new ProjectGithubUrlDTO(2L, "https://github.com/b")
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        NdjsonWriter.<ProjectGithubUrlDTO>body(objectMapper, sink -> rows.forEach(sink)).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("projectId").asLong());
+        assertEquals("https://github.com/b", objectMapper.readTree(lines[1]).get("githubUrl").asText());
+    }
+
+    @Test
+    @DisplayName("출력 스트림을 닫지 않는다")
+    void write_keepsStreamOpen() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("stream must stay open");
+            }
+        };
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+
+        Consumer<Object> sink = writer::write;
+        sink.accept(new ProjectGithubUrlDTO(1L, null));
+        writer.flush();
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+}
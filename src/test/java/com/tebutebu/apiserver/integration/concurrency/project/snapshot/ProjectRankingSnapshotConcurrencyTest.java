@@ -9,7 +9,7 @@ import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.*;
@@ -34,7 +34,7 @@ public class ProjectRankingSnapshotConcurrencyTest {
     private ProjectRankingSnapshotRepository snapshotRepository;
 
     @Autowired
-    private RedisTemplate<String, ProjectRankingSnapshotResponseDTO> snapshotRedisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
 
     @BeforeEach
     void clearSnapshots() {
@@ -43,7 +43,7 @@ public class ProjectRankingSnapshotConcurrencyTest {
 
     @BeforeEach
     void clearCache() {
-        Objects.requireNonNull(snapshotRedisTemplate.getConnectionFactory()).getConnection().flushAll();
+        Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection().flushAll();
     }
 
     @Nested
@@ -147,7 +147,7 @@ public class ProjectRankingSnapshotConcurrencyTest {
             // given
             Long snapshotId = snapshotService.register();
             String bodyKey = "ranking:snapshot:" + snapshotId; // 환경 변수 값과 일치해야 함
-            snapshotRedisTemplate.delete(bodyKey);
+            stringRedisTemplate.delete(bodyKey);
 
             // when
             ProjectRankingSnapshotResponseDTO snapshot = snapshotService.getLatestSnapshot();
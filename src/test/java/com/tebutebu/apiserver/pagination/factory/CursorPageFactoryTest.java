@@ -0,0 +1,219 @@
+package com.tebutebu.apiserver.pagination.factory;
+
+import com.tebutebu.apiserver.pagination.internal.CursorPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CursorPageFactory Unit Tests")
+class CursorPageFactoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row((long) (count - i), BASE_TIME.minusMinutes(i), 100 - i));
+        }
+        return rows;
+    }
+
+    private static CursorPageSpec<Row> spec(int pageSize) {
+        return CursorPageSpec.<Row>builder()
+                .idExtractor(Row::getId)
+                .timeExtractor(Row::getCreatedAt)
+                .countExtractor(Row::getAcquiredCount)
+                .pageSize(pageSize)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("toPage")
+    class ToPage {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 항목 기준으로 커서를 만든다")
+        void toPage_extractsCursorFromLastItem() {
+            List<Row> fetched = rows(4);
+
+            CursorPage<Row> page = CursorPageFactory.toPage(fetched, spec(3), Row::getCreatedAt, null);
+
+            assertTrue(page.hasNext());
+            assertEquals(3, page.items().size());
+            assertEquals(2L, page.nextCursorId());
+            assertEquals(BASE_TIME.minusMinutes(2), page.nextCursorTime());
+            assertNull(page.nextCursorCount());
+        }
+
+        @Test
+        @DisplayName("카운트 커서는 카운트 추출기로 만든다")
+        void toPage_extractsCountCursor() {
+            CursorPage<Row> page = CursorPageFactory.toPage(rows(2), spec(5), null, Row::getAcquiredCount);
+
+            assertFalse(page.hasNext());
+            assertEquals(1L, page.nextCursorId());
+            assertEquals(99, page.nextCursorCount());
+            assertNull(page.nextCursorTime());
+        }
+
+        @Test
+        @DisplayName("빈 페이지는 커서가 없다")
+        void toPage_emptyPage() {
+            CursorPage<Row> page = CursorPageFactory.toPage(List.of(), spec(5), Row::getCreatedAt, null);
+
+            assertFalse(page.hasNext());
+            assertNull(page.nextCursorId());
+            assertNull(page.nextCursorTime());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("프록시 엔티티")
+    class ProxyEntity {
+
+        @Test
+        @DisplayName("지연 로딩 프록시처럼 하위 클래스가 위임해도 추출기 값으로 커서를 만든다")
+        void toPage_readsThroughDelegatingSubclass() {
+            List<Row> fetched = new ArrayList<>();
+            for (Row row : rows(3)) {
+                fetched.add(new ProxyRow(row));
+            }
+
+            CursorPage<Row> page = CursorPageFactory.toPage(fetched, spec(2), Row::getCreatedAt, null);
+
+            assertTrue(page.hasNext());
+            assertEquals(2L, page.nextCursorId());
+            assertEquals(BASE_TIME.minusMinutes(1), page.nextCursorTime());
+        }
+
+    }
+
+    /**
+     * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+     */
+    @Nested
+    @Tag("benchmark")
+    @DisplayName("리플렉션 대비 추출기 성능")
+    class Benchmark {
+
+        private static final int WARMUP_ITERATIONS = 50_000;
+
+        private static final int MEASURE_ITERATIONS = 500_000;
+
+        @Test
+        @DisplayName("프록시 엔티티에서 추출기 경로가 기존 리플렉션 경로보다 빠르다")
+        void extractorIsFasterThanReflection() throws Exception {
+            List<Row> fetched = new ArrayList<>();
+            for (Row row : rows(21)) {
+                fetched.add(new ProxyRow(row));
+            }
+            CursorPageSpec<Row> spec = spec(20);
+
+            assertEquals(reflectiveCursor(fetched, 20),
+                    CursorPageFactory.toPage(fetched, spec, Row::getCreatedAt, null).nextCursorId());
+
+            long reflectionNanos = measure(() -> reflectiveCursor(fetched, 20));
+            long extractorNanos = measure(() -> CursorPageFactory.toPage(fetched, spec, Row::getCreatedAt, null).nextCursorId());
+
+            assertTrue(extractorNanos < reflectionNanos, String.format(
+                    "reflection=%.1f ns/op, extractor=%.1f ns/op",
+                    (double) reflectionNanos / MEASURE_ITERATIONS, (double) extractorNanos / MEASURE_ITERATIONS));
+        }
+
+        private long measure(ThrowingSupplier supplier) throws Exception {
+            long sink = 0;
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                sink += supplier.get();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                sink += supplier.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            // JIT 이 결과를 버리지 않도록 사용한다.
+            assertNotEquals(Long.MIN_VALUE, sink);
+            return elapsed;
+        }
+
+        // 이전 CursorPageFactory 의 커서 계산 방식 (런타임 클래스에서 매번 메서드를 찾는다)
+        private long reflectiveCursor(List<Row> fetched, int pageSize) throws Exception {
+            List<Row> pageItems = fetched.size() > pageSize ? fetched.subList(0, pageSize) : fetched;
+            Row last = pageItems.getLast();
+            Method getId = last.getClass().getMethod("getId");
+            Method getTime = last.getClass().getMethod("getCreatedAt");
+            getTime.invoke(last);
+            return (Long) getId.invoke(last);
+        }
+
+    }
+
+    @FunctionalInterface
+    interface ThrowingSupplier {
+        long get() throws Exception;
+    }
+
+    // 필드는 비어 있고 getter 로만 원본에 위임하는 Hibernate 프록시 흉내
+    static class ProxyRow extends Row {
+
+        private final Row target;
+
+        ProxyRow(Row target) {
+            super(null, null, 0);
+            this.target = target;
+        }
+
+        @Override
+        public Long getId() {
+            return target.getId();
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return target.getCreatedAt();
+        }
+
+        @Override
+        public int getAcquiredCount() {
+            return target.getAcquiredCount();
+        }
+
+    }
+
+    public static class Row {
+
+        private final Long id;
+
+        private final LocalDateTime createdAt;
+
+        private final int acquiredCount;
+
+        Row(Long id, LocalDateTime createdAt, int acquiredCount) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.acquiredCount = acquiredCount;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public int getAcquiredCount() {
+            return acquiredCount;
+        }
+
+    }
+
+}
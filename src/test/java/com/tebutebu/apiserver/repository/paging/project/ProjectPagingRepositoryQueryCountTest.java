@@ -0,0 +1,144 @@
+package com.tebutebu.apiserver.repository.paging.project;
+
+import com.tebutebu.apiserver.config.JPAAuditingConfiguration;
+import com.tebutebu.apiserver.config.QueryDslConfig;
+import com.tebutebu.apiserver.domain.Member;
+import com.tebutebu.apiserver.domain.Project;
+import com.tebutebu.apiserver.domain.Subscription;
+import com.tebutebu.apiserver.domain.Team;
+import com.tebutebu.apiserver.dto.project.response.ProjectPageResponseDTO;
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+import com.tebutebu.apiserver.pagination.dto.request.ContextCursorPageRequestDTO;
+import com.tebutebu.apiserver.pagination.dto.request.CursorTimePageRequestDTO;
+import com.tebutebu.apiserver.pagination.factory.CursorPageFactory;
+import com.tebutebu.apiserver.pagination.internal.CursorPage;
+import com.tebutebu.apiserver.service.project.snapshot.IndexedRankingSnapshot;
+import com.tebutebu.apiserver.service.project.snapshot.ProjectRankingSnapshotCache;
+import com.tebutebu.apiserver.service.project.snapshot.RankingSnapshotData;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, JPAAuditingConfiguration.class, CursorPageFactory.class, ProjectPagingRepositoryImpl.class})
+@DisplayName("ProjectPagingRepository 쿼리 수 테스트")
+class ProjectPagingRepositoryQueryCountTest {
+
+    private static final int PROJECT_COUNT = 5;
+
+    @Autowired
+    private ProjectPagingRepository projectPagingRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockitoBean
+    private ProjectRankingSnapshotCache projectRankingSnapshotCache;
+
+    private final List<Long> projectIds = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= PROJECT_COUNT; i++) {
+            Team team = Team.builder().term(1).number(i).build();
+            em.persist(team);
+            Project project = Project.builder()
+                    .team(team)
+                    .title("project-" + i)
+                    .tagContents(List.of())
+                    .build();
+            em.persist(project);
+            projectIds.add(project.getId());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("최신순 피드는 팀을 함께 조회해 한 번의 쿼리로 끝난다")
+    void findByLatestCursor_fetchesTeamInSingleQuery() {
+        CursorPage<ProjectPageResponseDTO> page = projectPagingRepository.findByLatestCursor(
+                CursorTimePageRequestDTO.builder().pageSize(PROJECT_COUNT).build()
+        );
+
+        assertEquals(PROJECT_COUNT, page.items().size());
+        page.items().forEach(item -> assertNotNull(item.getTeamNumber()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("랭킹 피드는 페이지 크기와 무관하게 한 번의 쿼리로 끝난다")
+    void findByRankingCursor_fetchesTeamInSingleQuery() {
+        List<RankingItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < projectIds.size(); i++) {
+            items.add(RankingItemDTO.builder()
+                    .projectId(projectIds.get(i))
+                    .rank(i + 1)
+                    .givedPumatiCount((long) (PROJECT_COUNT - i))
+                    .receivedPumatiCount(0L)
+                    .build());
+        }
+        when(projectRankingSnapshotCache.getIndexed(1L))
+                .thenReturn(IndexedRankingSnapshot.of(1L, null, RankingSnapshotData.from(items)));
+
+        CursorPage<ProjectPageResponseDTO> page = projectPagingRepository.findByRankingCursor(
+                ContextCursorPageRequestDTO.builder().contextId(1L).pageSize(PROJECT_COUNT).build()
+        );
+
+        assertEquals(PROJECT_COUNT, page.items().size());
+        page.items().forEach(item -> assertNotNull(item.getTeamNumber()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("구독 피드는 구독, 프로젝트, 팀을 함께 조회해 한 번의 쿼리로 끝난다")
+    void findSubscribedProjectsByTerm_fetchesProjectAndTeamInSingleQuery() {
+        Member member = Member.builder()
+                .email("subscriber@example.com")
+                .password("password")
+                .name("subscriber")
+                .nickname("subscriber")
+                .build();
+        em.persist(member);
+        for (Long projectId : projectIds) {
+            em.persist(Subscription.builder()
+                    .member(member)
+                    .project(em.getReference(Project.class, projectId))
+                    .subscribedAt(LocalDateTime.now())
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        CursorPage<ProjectPageResponseDTO> page = projectPagingRepository.findSubscribedProjectsByTerm(
+                member.getId(), 1, CursorTimePageRequestDTO.builder().pageSize(PROJECT_COUNT).build()
+        );
+
+        assertEquals(PROJECT_COUNT, page.items().size());
+        page.items().forEach(item -> assertNotNull(item.getTeamNumber()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RankingSnapshotCodec Unit Tests")
+class RankingSnapshotCodecTest {
+
+    private static RankingItemDTO item(long projectId, int rank, long gived, long received) {
+        return RankingItemDTO.builder()
+                .projectId(projectId)
+                .rank(rank)
+                .givedPumatiCount(gived)
+                .receivedPumatiCount(received)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("encode / decode")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("인코딩 후 디코딩하면 원본 랭킹과 동일하다")
+        void roundTrip_preservesItems() {
+            List<RankingItemDTO> items = List.of(
+                    item(42L, 1, 1_000_000L, 3L),
+                    item(7L, 2, 999L, 12_345L),
+                    item(1_000_000_007L, 3, 0L, 0L)
+            );
+
+            byte[] encoded = RankingSnapshotCodec.encode(RankingSnapshotData.from(items));
+            RankingSnapshotData decoded = RankingSnapshotCodec.decode(encoded);
+
+            assertTrue(RankingSnapshotCodec.isEncoded(encoded));
+            assertEquals(items.size(), decoded.size());
+            for (int i = 0; i < items.size(); i++) {
+                RankingItemDTO expected = items.get(i);
+                RankingItemDTO actual = decoded.itemAt(i);
+                assertEquals(expected.getProjectId(), actual.getProjectId());
+                assertEquals(expected.getRank(), actual.getRank());
+                assertEquals(expected.getGivedPumatiCount(), actual.getGivedPumatiCount());
+                assertEquals(expected.getReceivedPumatiCount(), actual.getReceivedPumatiCount());
+            }
+        }
+
+        @Test
+        @DisplayName("빈 랭킹도 인코딩/디코딩할 수 있다")
+        void roundTrip_empty() {
+            byte[] encoded = RankingSnapshotCodec.encode(RankingSnapshotData.from(List.of()));
+
+            assertEquals(0, RankingSnapshotCodec.decode(encoded).size());
+        }
+
+        @Test
+        @DisplayName("정렬된 랭킹은 항목당 수 바이트로 인코딩된다")
+        void encode_isCompact() {
+            List<RankingItemDTO> items = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                items.add(item(i + 1, i + 1, 10_000L - i, i));
+            }
+
+            byte[] encoded = RankingSnapshotCodec.encode(RankingSnapshotData.from(items));
+
+            assertTrue(encoded.length < items.size() * 6);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("요청 시각 포함 인코딩 (v2)")
+    class WithRequestedAt {
+
+        @Test
+        @DisplayName("요청 시각과 랭킹을 함께 복원한다")
+        void roundTrip_preservesRequestedAt() {
+            LocalDateTime requestedAt = LocalDateTime.of(2025, 6, 2, 13, 45, 7, 123_456_000);
+            RankingSnapshotData data = RankingSnapshotData.from(List.of(item(3L, 1, 20L, 1L), item(9L, 2, 10L, 0L)));
+
+            byte[] encoded = RankingSnapshotCodec.encode(data, requestedAt);
+            RankingSnapshotData decoded = RankingSnapshotCodec.decode(encoded);
+
+            assertEquals(requestedAt, RankingSnapshotCodec.decodeRequestedAt(encoded));
+            assertEquals(2, decoded.size());
+            assertEquals(9L, decoded.projectIdAt(1));
+            assertEquals(10L, decoded.givedPumatiCountAt(1));
+        }
+
+        @Test
+        @DisplayName("v1 포맷은 요청 시각이 없다")
+        void decodeRequestedAt_returnsNullForV1() {
+            byte[] encoded = RankingSnapshotCodec.encode(RankingSnapshotData.from(List.of(item(1L, 1, 1L, 1L))));
+
+            assertNull(RankingSnapshotCodec.decodeRequestedAt(encoded));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("decode 실패")
+    class DecodeFailure {
+
+        @Test
+        @DisplayName("매직 바이트가 없으면 예외가 발생한다")
+        void decode_rejectsUnknownPayload() {
+            byte[] json = "{\"projects\":[]}".getBytes();
+
+            assertFalse(RankingSnapshotCodec.isEncoded(json));
+            assertThrows(IllegalArgumentException.class, () -> RankingSnapshotCodec.decode(json));
+        }
+
+        @Test
+        @DisplayName("잘린 데이터는 예외가 발생한다")
+        void decode_rejectsTruncatedPayload() {
+            byte[] encoded = RankingSnapshotCodec.encode(RankingSnapshotData.from(List.of(item(1L, 1, 300L, 300L))));
+            byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+            assertThrows(IllegalArgumentException.class, () -> RankingSnapshotCodec.decode(truncated));
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.tebutebu.apiserver.service.project.snapshot;
+
+import com.tebutebu.apiserver.dto.project.snapshot.response.RankingItemDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RankingSnapshotData Unit Tests")
+class RankingSnapshotDataTest {
+
+    private static RankingItemDTO item(long projectId, long gived, long received) {
+        return RankingItemDTO.builder()
+                .projectId(projectId)
+                .givedPumatiCount(gived)
+                .receivedPumatiCount(received)
+                .build();
+    }
+
+    private static IndexedRankingSnapshot snapshotOf(RankingItemDTO... items) {
+        return IndexedRankingSnapshot.of(1L, null, RankingSnapshotData.from(List.of(items)));
+    }
+
+    @Test
+    @DisplayName("변경된 항목만 새 점수 위치로 이동하고 순위가 다시 매겨진다")
+    void withChanges_repositionsChangedEntries() {
+        IndexedRankingSnapshot previous = snapshotOf(
+                item(1L, 50L, 1L),
+                item(2L, 40L, 2L),
+                item(3L, 30L, 3L),
+                item(4L, 20L, 4L)
+        );
+
+        RankingSnapshotData merged = previous.withChanges(List.of(
+                item(4L, 45L, 9L),
+                item(1L, 30L, 1L)
+        ));
+
+        assertEquals(4, merged.size());
+        assertArrayEquals(new long[]{4L, 2L, 1L, 3L}, new long[]{
+                merged.projectIdAt(0), merged.projectIdAt(1), merged.projectIdAt(2), merged.projectIdAt(3)
+        });
+        assertEquals(45L, merged.givedPumatiCountAt(0));
+        assertEquals(9L, merged.receivedPumatiCountAt(0));
+        for (int i = 0; i < merged.size(); i++) {
+            assertEquals(i + 1, merged.rankAt(i));
+        }
+    }
+
+    @Test
+    @DisplayName("이전 랭킹에 없던 프로젝트는 새로 삽입된다")
+    void withChanges_insertsUnknownProject() {
+        IndexedRankingSnapshot previous = snapshotOf(item(1L, 10L, 0L), item(3L, 5L, 0L));
+
+        RankingSnapshotData merged = previous.withChanges(List.of(item(2L, 5L, 0L)));
+
+        assertEquals(3, merged.size());
+        assertEquals(1L, merged.projectIdAt(0));
+        assertEquals(2L, merged.projectIdAt(1));
+        assertEquals(3L, merged.projectIdAt(2));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.tebutebu.apiserver.service.team.counter;
+
+import com.tebutebu.apiserver.global.errorcode.BusinessErrorCode;
+import com.tebutebu.apiserver.global.exception.BusinessException;
+import com.tebutebu.apiserver.repository.TeamRepository;
+import com.tebutebu.apiserver.util.ReflectionTestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamPumatiCounterServiceImpl Unit Tests")
+class TeamPumatiCounterServiceImplTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    private TeamPumatiCounterServiceImpl teamPumatiCounterService;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 호출은 모두 연결 실패로 응답한다.
+        StringRedisTemplate unavailableRedis = Mockito.mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("Redis is down");
+        });
+        teamPumatiCounterService = new TeamPumatiCounterServiceImpl(teamRepository, unavailableRedis);
+        ReflectionTestUtil.setPrivateField(teamPumatiCounterService, "counterKeyPrefix", "team:pumati:");
+    }
+
+    @Nested
+    @DisplayName("Redis 장애 시")
+    class RedisUnavailable {
+
+        @Test
+        @DisplayName("준 품앗이 증가분을 DB에 바로 반영하고 DB 값을 반환한다")
+        void incrementGived_writesThroughToDatabase() {
+            when(teamRepository.incrementPumatiCounts(1L, 3L, 0L)).thenReturn(1);
+            when(teamRepository.findGivedPumatiCountById(1L)).thenReturn(Optional.of(13L));
+
+            long count = teamPumatiCounterService.incrementGived(1L, 3L);
+
+            assertEquals(13L, count);
+            verify(teamRepository).incrementPumatiCounts(1L, 3L, 0L);
+        }
+
+        @Test
+        @DisplayName("받은 품앗이 증가분을 DB에 바로 반영하고 DB 값을 반환한다")
+        void incrementReceived_writesThroughToDatabase() {
+            when(teamRepository.incrementPumatiCounts(2L, 0L, 5L)).thenReturn(1);
+            when(teamRepository.findReceivedPumatiCountById(2L)).thenReturn(Optional.of(8L));
+
+            long count = teamPumatiCounterService.incrementReceived(2L, 5L);
+
+            assertEquals(8L, count);
+            verify(teamRepository).incrementPumatiCounts(2L, 0L, 5L);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 팀이면 TEAM_NOT_FOUND 예외가 발생한다")
+        void incrementGived_missingTeam() {
+            when(teamRepository.incrementPumatiCounts(9L, 1L, 0L)).thenReturn(0);
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> teamPumatiCounterService.incrementGived(9L, 1L));
+
+            assertEquals(BusinessErrorCode.TEAM_NOT_FOUND, exception.getErrorCode());
+        }
+
+        @Test
+        @DisplayName("DB 직접 반영은 엔티티를 읽지 않고 UPDATE 와 단일 컬럼 조회로만 처리한다")
+        void incrementGived_writesThroughWithoutLoadingTeam() {
+            when(teamRepository.incrementPumatiCounts(1L, 2L, 0L)).thenReturn(1);
+            when(teamRepository.findGivedPumatiCountById(1L)).thenReturn(Optional.of(2L));
+
+            teamPumatiCounterService.incrementGived(1L, 2L);
+
+            verify(teamRepository).incrementPumatiCounts(1L, 2L, 0L);
+            verify(teamRepository).findGivedPumatiCountById(1L);
+            verifyNoMoreInteractions(teamRepository);
+        }
+
+    }
+
+}